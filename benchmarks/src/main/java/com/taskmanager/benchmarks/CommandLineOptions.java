@@ -0,0 +1,113 @@
+package com.taskmanager.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options {@code --nom valeur} (ou {@code --nom=valeur}) des outils en ligne de commande.
+ * Une option inconnue est refusée pour ne pas lancer des heures de génération avec une faute de frappe.
+ */
+final class CommandLineOptions {
+
+    static final Set<String> DISTRIBUTION_OPTIONS = Set.of(
+            "priorities", "statuses", "due-ratio", "due-from", "due-span", "description");
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private CommandLineOptions() {
+    }
+
+    static CommandLineOptions parse(String[] args, Set<String> allowed) {
+        CommandLineOptions options = new CommandLineOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Option attendue: " + arg);
+            }
+            String name = arg.substring(2);
+            String value;
+            int separator = name.indexOf('=');
+            if (separator >= 0) {
+                value = name.substring(separator + 1);
+                name = name.substring(0, separator);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("Valeur manquante pour --" + name);
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Option inconnue --" + name + " (options: " + allowed + ")");
+            }
+            options.values.put(name, value);
+        }
+        return options;
+    }
+
+    String getString(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Long.parseLong(value.replace("_", ""));
+    }
+
+    double getDouble(String name, double defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    double[] getDoubles(String name, double[] defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+
+    /**
+     * Liste {@code cle=poids,cle=poids}, dans l'ordre donné.
+     */
+    Map<String, Double> getWeights(String name, String defaultValue) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (String entry : getString(name, defaultValue).split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Format attendu pour --" + name + ": cle=poids,cle=poids");
+            }
+            weights.put(parts[0].trim(), Double.parseDouble(parts[1]));
+        }
+        return weights;
+    }
+
+    /**
+     * Répartition décrite par {@code --priorities 1,2,1 --statuses 5,3,2 --due-ratio 0.7
+     * --due-from 2025-01-01 --due-span 730 --description 0-200}.
+     */
+    TaskDistribution distribution() {
+        TaskDistribution defaults = TaskDistribution.defaults();
+        String description = getString("description",
+                defaults.minDescriptionLength() + "-" + defaults.maxDescriptionLength());
+        String[] lengths = description.split("-", 2);
+        int minLength = Integer.parseInt(lengths[0].trim());
+        int maxLength = lengths.length == 2 ? Integer.parseInt(lengths[1].trim()) : minLength;
+
+        return defaults
+                .withPriorityWeights(getDoubles("priorities", defaults.priorityWeights()))
+                .withStatusWeights(getDoubles("statuses", defaults.statusWeights()))
+                .withDueDates(getDouble("due-ratio", defaults.dueDateRatio()),
+                        has("due-from") ? LocalDate.parse(getString("due-from", null)) : defaults.firstDueDate(),
+                        getInt("due-span", defaults.dueDateSpanDays()))
+                .withDescriptionLength(minLength, maxLength);
+    }
+}
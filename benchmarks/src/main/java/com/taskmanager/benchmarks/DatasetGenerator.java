@@ -0,0 +1,73 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Génère un jeu de tâches reproductible dans les formats de stockage de l'application :
+ * {@code <nom>.json}, {@code <nom>.bin} et {@code <nom>.mv.db}, lisibles tels quels avec
+ * {@code -Dtaskmanager.storage=json|binary|h2}.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.taskmanager.benchmarks.DatasetGenerator --count 1000000 --output data \
+ *      --formats json,binary --statuses 5,3,2 --description 0-200
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    private static final Set<String> OPTIONS = options();
+
+    private DatasetGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        CommandLineOptions options = CommandLineOptions.parse(args, OPTIONS);
+        int count = options.getInt("count", 1_000_000);
+        long seed = options.getLong("seed", SyntheticTasks.DEFAULT_SEED);
+        Path output = Path.of(options.getString("output", "dataset"));
+        String name = options.getString("name", "tasks");
+        Set<String> formats = new LinkedHashSet<>(List.of(options.getString("formats", "json,binary").split(",")));
+        TaskDistribution distribution = options.distribution();
+
+        Files.createDirectories(output);
+        long start = System.nanoTime();
+        List<Task> tasks = new SyntheticTasks(seed, distribution).next(count);
+        report("génération", count + " tâches", start);
+
+        for (String format : formats) {
+            start = System.nanoTime();
+            Path file;
+            switch (format.trim()) {
+                case "json":
+                    file = SyntheticTasks.writeJson(output.resolve(name + ".json"), tasks);
+                    break;
+                case "binary":
+                    file = SyntheticTasks.writeBinary(output.resolve(name + ".bin"), tasks);
+                    break;
+                case "h2":
+                    SyntheticTasks.writeH2(output.resolve(name), tasks);
+                    file = output.resolve(name + ".mv.db");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Format inconnu: " + format + " (json, binary, h2)");
+            }
+            report(format.trim(), file + " (" + Files.size(file) / 1024 + " Ko)", start);
+        }
+    }
+
+    private static void report(String step, String detail, long startNanos) {
+        System.out.printf("%-12s %8d ms  %s%n", step, (System.nanoTime() - startNanos) / 1_000_000, detail);
+    }
+
+    private static Set<String> options() {
+        Set<String> options = new HashSet<>(Set.of("count", "seed", "output", "name", "formats"));
+        options.addAll(CommandLineOptions.DISTRIBUTION_OPTIONS);
+        return Set.copyOf(options);
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanager.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Durées mesurées d'une opération, en nanosecondes. Chaque thread du test de charge a les siennes,
+ * fusionnées à la fin : les percentiles sont exacts.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private boolean sorted;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        sorted = false;
+    }
+
+    void addAll(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(size + other.size, samples.length * 2));
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        sorted = false;
+    }
+
+    int count() {
+        return size;
+    }
+
+    /**
+     * Durée sous laquelle se trouvent {@code percentile} % des mesures (rang le plus proche).
+     */
+    long percentile(double percentile) {
+        if (size == 0) return 0;
+
+        if (!sorted) {
+            Arrays.sort(samples, 0, size);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return samples[Math.max(0, Math.min(size, rank) - 1)];
+    }
+
+    long max() {
+        return percentile(100);
+    }
+}
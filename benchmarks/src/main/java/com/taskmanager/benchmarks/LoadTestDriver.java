@@ -0,0 +1,286 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.SortCriterion;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.persistence.TaskRepositories;
+import com.taskmanager.service.TaskDispatcher;
+import com.taskmanager.service.TaskQuery;
+import com.taskmanager.service.TaskService;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test de charge sans interface : plusieurs threads rejouent un mélange de mutations et de recherches
+ * sur un {@link TaskService}, puis le débit et les percentiles de latence de chaque opération sont affichés.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.taskmanager.benchmarks.LoadTestDriver --tasks 1000000 --storage binary \
+ *      --threads 4 --warmup 10 --duration 60 --mix add=10,update=30,delete=10,search=30,query=15,count=5
+ * </pre>
+ *
+ * Sans {@code --dataset}, le jeu est généré (voir {@link DatasetGenerator} pour les options de répartition)
+ * dans un répertoire temporaire supprimé à la fin.
+ */
+public final class LoadTestDriver {
+
+    private static final String DEFAULT_MIX = "add=10,update=30,delete=10,search=30,query=15,count=5";
+    private static final int MAX_TARGET_ATTEMPTS = 8;
+    private static final int QUERY_PAGE_SIZE = 50;
+    private static final SortCriterion[] SORT_CRITERIA = SortCriterion.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private enum Operation {
+        ADD, UPDATE, DELETE, SEARCH, QUERY, COUNT;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final TaskService service;
+    private final AtomicInteger highestId;
+    private final Operation[] operations;
+    private final double[] weights;
+    private final long seed;
+    private final TaskDistribution distribution;
+
+    private LoadTestDriver(TaskService service, Map<String, Double> mix, long seed, TaskDistribution distribution) {
+        this.service = service;
+        this.highestId = new AtomicInteger(service.snapshot().stream().mapToInt(Task::getId).max().orElse(0));
+        this.operations = new Operation[mix.size()];
+        this.weights = new double[mix.size()];
+        this.seed = seed;
+        this.distribution = distribution;
+
+        int i = 0;
+        for (Map.Entry<String, Double> entry : mix.entrySet()) {
+            operations[i] = operation(entry.getKey());
+            weights[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Set<String> allowed = new HashSet<>(Set.of(
+                "tasks", "seed", "dataset", "storage", "threads", "warmup", "duration", "mix", "csv"));
+        allowed.addAll(CommandLineOptions.DISTRIBUTION_OPTIONS);
+        CommandLineOptions options = CommandLineOptions.parse(args, allowed);
+
+        long seed = options.getLong("seed", SyntheticTasks.DEFAULT_SEED);
+        int threads = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+        int warmupSeconds = options.getInt("warmup", 5);
+        int durationSeconds = options.getInt("duration", 30);
+        String storage = options.getString("storage", "json");
+        TaskDistribution distribution = options.distribution();
+
+        Path temporaryDirectory = null;
+        Path dataset;
+        if (options.has("dataset")) {
+            dataset = Path.of(options.getString("dataset", null));
+        } else {
+            temporaryDirectory = SyntheticTasks.createTempDirectory();
+            dataset = SyntheticTasks.writeJson(temporaryDirectory.resolve("tasks.json"),
+                    new SyntheticTasks(seed, distribution).next(options.getInt("tasks", 100_000)));
+        }
+
+        try {
+            System.setProperty(TaskRepositories.STORAGE_PROPERTY, storage);
+            long loadStart = System.nanoTime();
+            TaskService service = new TaskService(TaskRepositories.fromConfiguration(dataset), false,
+                    TaskDispatcher.direct());
+            System.out.printf("Jeu: %d tâches (%s), chargé en %d ms%n", service.getTasks().size(), storage,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStart));
+            System.out.printf("Charge: %d threads, préchauffage %d s, mesure %d s, mélange %s%n%n",
+                    threads, warmupSeconds, durationSeconds, options.getString("mix", DEFAULT_MIX));
+
+            LoadTestDriver driver = new LoadTestDriver(service, options.getWeights("mix", DEFAULT_MIX), seed, distribution);
+            Map<Operation, Result> results = driver.run(threads, warmupSeconds, durationSeconds);
+
+            long flushStart = System.nanoTime();
+            service.flush().join();
+            long flushMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - flushStart);
+            service.close();
+
+            print(results, durationSeconds);
+            System.out.printf("%nÉcriture des mutations en attente: %d ms, tâches à la fin: %d%n",
+                    flushMillis, service.getTasks().size());
+            if (options.has("csv")) {
+                writeCsv(Path.of(options.getString("csv", null)), results, durationSeconds);
+            }
+        } finally {
+            SyntheticTasks.deleteRecursively(temporaryDirectory);
+        }
+    }
+
+    private Map<Operation, Result> run(int threads, int warmupSeconds, int durationSeconds)
+            throws InterruptedException, ExecutionException {
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Map<Operation, Result>>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            int worker = i;
+            workers.add(executor.submit(() -> runWorker(worker, measureStart, end)));
+        }
+        executor.shutdown();
+
+        Map<Operation, Result> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Result>> worker : workers) {
+            worker.get().forEach((operation, result) ->
+                    merged.computeIfAbsent(operation, key -> new Result()).addAll(result));
+        }
+        return merged;
+    }
+
+    private Map<Operation, Result> runWorker(int worker, long measureStart, long end) {
+        Random random = new Random(seed + worker);
+        SyntheticTasks generator = new SyntheticTasks(seed + worker, distribution);
+        Map<Operation, Result> results = new EnumMap<>(Operation.class);
+
+        long start;
+        while ((start = System.nanoTime()) < end) {
+            Operation operation = operations[TaskDistribution.pick(weights, random.nextDouble())];
+            boolean hit = execute(operation, random, generator);
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureStart) {
+                results.computeIfAbsent(operation, key -> new Result()).record(elapsed, hit);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Exécute une opération ; false si elle n'a pas trouvé de tâche à modifier.
+     */
+    private boolean execute(Operation operation, Random random, SyntheticTasks generator) {
+        switch (operation) {
+            case ADD: {
+                Task task = generator.next();
+                service.addTask(task);
+                highestId.accumulateAndGet(task.getId(), Math::max);
+                return true;
+            }
+            case UPDATE: {
+                Optional<Task> target = randomTask(random);
+                target.ifPresent(task -> {
+                    Task updated = task.clone();
+                    updated.setTitle(generator.next().getTitle());
+                    updated.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                    updated.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+                    service.updateTask(updated);
+                });
+                return target.isPresent();
+            }
+            case DELETE: {
+                Optional<Task> target = randomTask(random);
+                target.ifPresent(service::deleteTask);
+                return target.isPresent();
+            }
+            case SEARCH:
+                service.search(random.nextBoolean() ? generator.word() : generator.word() + " " + generator.word());
+                return true;
+            case QUERY:
+                service.query(TaskQuery.all()
+                        .withText(generator.word())
+                        .withStatuses(STATUSES[random.nextInt(STATUSES.length)])
+                        .sortedBy(SORT_CRITERIA[random.nextInt(SORT_CRITERIA.length)])
+                        .page(0, QUERY_PAGE_SIZE));
+                return true;
+            case COUNT:
+                service.countTasksByStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                return true;
+            default:
+                throw new IllegalStateException("Opération non gérée: " + operation);
+        }
+    }
+
+    private Optional<Task> randomTask(Random random) {
+        int bound = highestId.get();
+        for (int attempt = 0; attempt < MAX_TARGET_ATTEMPTS && bound > 0; attempt++) {
+            Optional<Task> task = service.findById(1 + random.nextInt(bound));
+            if (task.isPresent()) return task;
+        }
+        return Optional.empty();
+    }
+
+    private static Operation operation(String key) {
+        for (Operation operation : Operation.values()) {
+            if (operation.key().equals(key)) return operation;
+        }
+        throw new IllegalArgumentException("Opération inconnue dans --mix: " + key);
+    }
+
+    private static void print(Map<Operation, Result> results, int durationSeconds) {
+        System.out.printf("%-8s %10s %12s %10s %10s %10s %10s %10s %8s%n",
+                "Opér.", "Nombre", "Débit op/s", "p50 µs", "p90 µs", "p99 µs", "p99.9 µs", "max µs", "Ratés");
+        Result total = new Result();
+        for (Map.Entry<Operation, Result> entry : results.entrySet()) {
+            printRow(entry.getKey().key(), entry.getValue(), durationSeconds);
+            total.addAll(entry.getValue());
+        }
+        printRow("total", total, durationSeconds);
+    }
+
+    private static void printRow(String name, Result result, int durationSeconds) {
+        LatencyRecorder latencies = result.latencies;
+        System.out.printf(Locale.ROOT, "%-8s %10d %12.1f %10.1f %10.1f %10.1f %10.1f %10.1f %8d%n",
+                name, latencies.count(), (double) latencies.count() / durationSeconds,
+                micros(latencies.percentile(50)), micros(latencies.percentile(90)),
+                micros(latencies.percentile(99)), micros(latencies.percentile(99.9)),
+                micros(latencies.max()), result.misses);
+    }
+
+    private static void writeCsv(Path file, Map<Operation, Result> results, int durationSeconds) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("operation,count,throughput_ops,p50_us,p90_us,p99_us,p999_us,max_us,misses");
+            for (Map.Entry<Operation, Result> entry : results.entrySet()) {
+                LatencyRecorder latencies = entry.getValue().latencies;
+                out.printf(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%d%n",
+                        entry.getKey().key(), latencies.count(), (double) latencies.count() / durationSeconds,
+                        micros(latencies.percentile(50)), micros(latencies.percentile(90)),
+                        micros(latencies.percentile(99)), micros(latencies.percentile(99.9)),
+                        micros(latencies.max()), entry.getValue().misses);
+            }
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private static final class Result {
+        private final LatencyRecorder latencies = new LatencyRecorder();
+        private long misses;
+
+        void record(long nanos, boolean hit) {
+            latencies.record(nanos);
+            if (!hit) misses++;
+        }
+
+        void addAll(Result other) {
+            latencies.addAll(other.latencies);
+            misses += other.misses;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.persistence.JsonTaskStore;
+import com.taskmanager.persistence.TaskRepositories;
+import com.taskmanager.service.TaskDispatcher;
+import com.taskmanager.service.TaskService;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Démarrage du service : chargement complet avant d'afficher quoi que ce soit, contre chargement différé
+ * dont on mesure l'arrivée des premières lignes puis la fin. Chaque mesure est faite dans une JVM neuve
+ * sans échauffement, comme un démarrage à froid. Le temps d'affichage de la fenêtre elle-même se mesure avec
+ * {@code -Dtaskmanager.exitAfterStartup=true} sur l'application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = "-Xmx4g")
+public class StartupBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Path directory;
+    private Path sourceFile;
+    private TaskService service;
+    private CompletableFuture<Integer> loading;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = SyntheticTasks.createTempDirectory();
+        sourceFile = SyntheticTasks.writeJson(directory.resolve("tasks.json"), SyntheticTasks.generate(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticTasks.deleteRecursively(directory);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeService() {
+        if (loading != null) {
+            loading.join();
+            loading = null;
+        }
+        if (service != null) {
+            service.close();
+            service = null;
+        }
+    }
+
+    @Benchmark
+    public int eagerLoad() {
+        service = new TaskService(sourceFile.toFile());
+        return service.getTasks().size();
+    }
+
+    @Benchmark
+    public int deferredFirstRows() {
+        CompletableFuture<Integer> firstRows = new CompletableFuture<>();
+        service = TaskService.deferred(openStore(), TaskDispatcher.direct());
+        loading = service.loadAsync(progress -> firstRows.complete(service.getTasks().size()));
+        loading.thenAccept(firstRows::complete);
+        return firstRows.join();
+    }
+
+    @Benchmark
+    public int deferredFullLoad() {
+        service = TaskService.deferred(openStore(), TaskDispatcher.direct());
+        loading = service.loadAsync(progress -> { });
+        return loading.join();
+    }
+
+    private JsonTaskStore openStore() {
+        return new JsonTaskStore(sourceFile, TaskRepositories.newJsonMapper());
+    }
+}
@@ -0,0 +1,162 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.persistence.BinaryTaskSnapshot;
+import com.taskmanager.persistence.H2TaskRepository;
+import com.taskmanager.persistence.JournalRecord;
+import com.taskmanager.persistence.TaskJsonWriter;
+import com.taskmanager.persistence.TaskRepositories;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Tâches générées de façon reproductible (même graine et même répartition, mêmes tâches)
+ * pour les benchmarks et le test de charge.
+ */
+public final class SyntheticTasks {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final String[] WORDS = {
+            "rapport", "réunion", "client", "facture", "projet", "revue", "budget", "planning",
+            "livraison", "maquette", "serveur", "contrat", "formation", "audit", "recette", "migration"
+    };
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDate.of(2025, 1, 1).atStartOfDay();
+
+    private final Random random;
+    private final TaskDistribution distribution;
+    private int nextId;
+
+    public SyntheticTasks(long seed) {
+        this(seed, TaskDistribution.defaults());
+    }
+
+    public SyntheticTasks(long seed, TaskDistribution distribution) {
+        this.random = new Random(seed);
+        this.distribution = distribution;
+        this.nextId = 1;
+    }
+
+    public static List<Task> generate(int count) {
+        return new SyntheticTasks(DEFAULT_SEED).next(count);
+    }
+
+    public List<Task> next(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(next());
+        }
+        return tasks;
+    }
+
+    public Task next() {
+        Task task = new Task();
+        task.setId(nextId++);
+        task.setTitle(capitalize(word()) + " " + word() + " " + random.nextInt(10_000));
+        task.setDescription(description());
+        task.setPriority(PRIORITIES[TaskDistribution.pick(distribution.priorityWeights(), random.nextDouble())]);
+        task.setStatus(STATUSES[TaskDistribution.pick(distribution.statusWeights(), random.nextDouble())]);
+        if (random.nextDouble() < distribution.dueDateRatio()) {
+            task.setDueDate(distribution.firstDueDate().plusDays(random.nextInt(distribution.dueDateSpanDays())));
+        }
+        task.setCreatedAt(FIRST_CREATED_AT.plusSeconds(random.nextInt(730 * 86_400)));
+        if (task.getStatus() == Status.COMPLETED) {
+            task.setCompletedAt(task.getCreatedAt().plusHours(1 + random.nextInt(500)));
+        }
+        return task;
+    }
+
+    /**
+     * Mot du vocabulaire des titres, pour construire des recherches qui trouvent des résultats.
+     */
+    public String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private String description() {
+        int length = distribution.minDescriptionLength()
+                + random.nextInt(distribution.maxDescriptionLength() - distribution.minDescriptionLength() + 1);
+        if (length == 0) return "";
+
+        StringBuilder description = new StringBuilder(length + 16).append("Préparer");
+        while (description.length() < length) {
+            description.append(' ').append(word());
+        }
+        description.setLength(length);
+        if (description.charAt(length - 1) == ' ') {
+            description.setCharAt(length - 1, '.');
+        }
+        return description.toString();
+    }
+
+    public static Path writeJson(Path file, List<Task> tasks) {
+        try {
+            new TaskJsonWriter(TaskRepositories.newJsonMapper()).write(file, tasks);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Path writeBinary(Path file, List<Task> tasks) {
+        try {
+            BinaryTaskSnapshot.write(file, tasks);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Base H2 {@code <databaseFile>.mv.db}, remplie en une seule transaction.
+     */
+    public static Path writeH2(Path databaseFile, List<Task> tasks) {
+        List<JournalRecord> records = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            records.add(JournalRecord.put(task));
+        }
+        try (H2TaskRepository repository = new H2TaskRepository(databaseFile)) {
+            repository.apply(records);
+            return databaseFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("taskmanager-bench");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void deleteRecursively(Path directory) {
+        if (directory == null || !Files.exists(directory)) return;
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
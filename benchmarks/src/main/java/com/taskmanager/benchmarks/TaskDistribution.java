@@ -0,0 +1,94 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.TaskValidation;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Répartition des tâches générées : poids relatifs des priorités et des statuts (dans l'ordre des enums),
+ * part des tâches avec échéance, fenêtre des échéances et longueur des descriptions.
+ */
+public record TaskDistribution(double[] priorityWeights,
+                               double[] statusWeights,
+                               double dueDateRatio,
+                               LocalDate firstDueDate,
+                               int dueDateSpanDays,
+                               int minDescriptionLength,
+                               int maxDescriptionLength) {
+
+    public TaskDistribution {
+        priorityWeights = checkWeights(priorityWeights, Priority.values().length, "priorités");
+        statusWeights = checkWeights(statusWeights, Status.values().length, "statuts");
+        if (dueDateRatio < 0 || dueDateRatio > 1) {
+            throw new IllegalArgumentException("La part des échéances doit être comprise entre 0 et 1");
+        }
+        if (dueDateSpanDays < 1) {
+            throw new IllegalArgumentException("La fenêtre des échéances doit compter au moins un jour");
+        }
+        if (minDescriptionLength < 0 || maxDescriptionLength < minDescriptionLength
+                || maxDescriptionLength > TaskValidation.MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Longueurs de description invalides: "
+                    + minDescriptionLength + "-" + maxDescriptionLength);
+        }
+    }
+
+    /**
+     * Priorités et statuts uniformes, deux tâches sur trois avec une échéance sur deux ans à partir de 2025,
+     * descriptions de 0 à 80 caractères.
+     */
+    public static TaskDistribution defaults() {
+        return new TaskDistribution(new double[] {1, 1, 1}, new double[] {1, 1, 1},
+                2.0 / 3, LocalDate.of(2025, 1, 1), 730, 0, 80);
+    }
+
+    public TaskDistribution withPriorityWeights(double... weights) {
+        return new TaskDistribution(weights, statusWeights, dueDateRatio, firstDueDate, dueDateSpanDays,
+                minDescriptionLength, maxDescriptionLength);
+    }
+
+    public TaskDistribution withStatusWeights(double... weights) {
+        return new TaskDistribution(priorityWeights, weights, dueDateRatio, firstDueDate, dueDateSpanDays,
+                minDescriptionLength, maxDescriptionLength);
+    }
+
+    public TaskDistribution withDueDates(double ratio, LocalDate first, int spanDays) {
+        return new TaskDistribution(priorityWeights, statusWeights, ratio, first, spanDays,
+                minDescriptionLength, maxDescriptionLength);
+    }
+
+    public TaskDistribution withDescriptionLength(int min, int max) {
+        return new TaskDistribution(priorityWeights, statusWeights, dueDateRatio, firstDueDate, dueDateSpanDays,
+                min, max);
+    }
+
+    /**
+     * Indice tiré selon les poids, pour une valeur uniforme {@code u} dans [0, 1).
+     */
+    static int pick(double[] weights, double u) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = u * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    private static double[] checkWeights(double[] weights, int expected, String name) {
+        if (weights == null || weights.length != expected) {
+            throw new IllegalArgumentException(expected + " poids attendus pour les " + name);
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0) throw new IllegalArgumentException("Poids négatif pour les " + name);
+            total += weight;
+        }
+        if (total <= 0) throw new IllegalArgumentException("Au moins un poids non nul est attendu pour les " + name);
+        return Arrays.copyOf(weights, weights.length);
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.service.TaskService;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mutations unitaires du service. Les variantes {@code ...AndSave} attendent l'écriture du journal ;
+ * les autres ne mesurent que la mise à jour en mémoire, l'écriture restant différée.
+ * L'ajout est mesuré avec sa suppression pour garder la taille de la liste constante.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskMutationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private TaskService service;
+    private SyntheticTasks generator;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = SyntheticTasks.createTempDirectory();
+        Path file = SyntheticTasks.writeJson(directory.resolve("tasks.json"), SyntheticTasks.generate(size));
+        service = new TaskService(file.toFile());
+        generator = new SyntheticTasks(7L);
+        random = new Random(7L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+        SyntheticTasks.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Task addThenDeleteTask() {
+        Task task = generator.next();
+        service.addTask(task);
+        service.deleteTask(task);
+        return task;
+    }
+
+    @Benchmark
+    public Task addThenDeleteTaskAndSave() {
+        Task task = addThenDeleteTask();
+        service.flush().join();
+        return task;
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        List<Task> tasks = service.getTasks();
+        Task updated = tasks.get(random.nextInt(tasks.size())).clone();
+        updated.setTitle(generator.word() + " " + random.nextInt(10_000));
+        updated.setStatus(Status.values()[random.nextInt(Status.values().length)]);
+        service.updateTask(updated);
+        return updated;
+    }
+
+    @Benchmark
+    public Task updateTaskAndSave() {
+        Task updated = updateTask();
+        service.flush().join();
+        return updated;
+    }
+}
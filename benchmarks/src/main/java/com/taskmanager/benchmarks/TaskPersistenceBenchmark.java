@@ -0,0 +1,88 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.service.TaskImport;
+import com.taskmanager.service.TaskService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Chargement au démarrage, import et export JSON. Chaque opération prend de quelques millisecondes
+ * à plusieurs secondes : elles sont mesurées une à une ({@link Mode#SingleShotTime}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskPersistenceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private Path sourceFile;
+    private TaskService loadedService;
+    private TaskService emptyService;
+    private Path emptyDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = SyntheticTasks.createTempDirectory();
+        sourceFile = SyntheticTasks.writeJson(directory.resolve("tasks.json"), SyntheticTasks.generate(size));
+        loadedService = new TaskService(sourceFile.toFile());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loadedService.close();
+        SyntheticTasks.deleteRecursively(directory);
+    }
+
+    @Setup(Level.Invocation)
+    public void openEmptyService() {
+        emptyDirectory = SyntheticTasks.createTempDirectory();
+        emptyService = new TaskService(emptyDirectory.resolve("tasks.json").toFile());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeEmptyService() {
+        emptyService.close();
+        SyntheticTasks.deleteRecursively(emptyDirectory);
+    }
+
+    @Benchmark
+    public int loadJson() {
+        TaskService service = new TaskService(sourceFile.toFile());
+        int count = service.getTasks().size();
+        service.close();
+        return count;
+    }
+
+    @Benchmark
+    public TaskImport.Result importJson() throws IOException {
+        return emptyService.importTasks(sourceFile.toFile());
+    }
+
+    @Benchmark
+    public long exportJson() throws IOException {
+        Path exportFile = emptyDirectory.resolve("export.json");
+        loadedService.exportTasks(exportFile.toFile());
+        return Files.size(exportFile);
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.service.TaskQuery;
+import com.taskmanager.service.TaskService;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compteurs, recherche plein texte et évaluation du prédicat de filtre sur toute la liste,
+ * comme le fait la FilteredList de la table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskReadBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"rapport", "client fact"})
+    private String searchText;
+
+    private Path directory;
+    private TaskService service;
+    private TaskQuery textQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = SyntheticTasks.createTempDirectory();
+        Path file = SyntheticTasks.writeJson(directory.resolve("tasks.json"), SyntheticTasks.generate(size));
+        service = new TaskService(file.toFile());
+        textQuery = TaskQuery.all().withText(searchText).withStatuses(Status.TODO, Status.IN_PROGRESS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+        SyntheticTasks.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long countTasksByStatus() {
+        long count = 0;
+        for (Status status : Status.values()) {
+            count += service.countTasksByStatus(status);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public BitSet search() {
+        return service.search(searchText);
+    }
+
+    @Benchmark
+    public int searchPredicate() {
+        Predicate<Task> predicate = textQuery.toPredicate(service.search(searchText));
+        int matches = 0;
+        for (Task task : service.getTasks()) {
+            if (predicate.test(task)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Task> query() {
+        return service.query(textQuery);
+    }
+}
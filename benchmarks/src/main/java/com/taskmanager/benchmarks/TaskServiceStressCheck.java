@@ -0,0 +1,445 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.SortCriterion;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.persistence.JsonTaskStore;
+import com.taskmanager.persistence.TaskRepositories;
+import com.taskmanager.service.TaskDispatcher;
+import com.taskmanager.service.TaskQuery;
+import com.taskmanager.service.TaskService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Vérification de cohérence sous concurrence : plusieurs threads ajoutent, modifient, suppriment et cherchent
+ * des tâches sur un {@link TaskService}, avec le dispatcher direct puis avec un thread propriétaire dédié
+ * (service différé chargé par {@link TaskService#loadAsync}). Chaque thread ne modifie que ses propres tâches,
+ * ce qui donne l'état final attendu ; à la fin, la liste, l'index des ids, la recherche, les échéances,
+ * les listes triées, les compteurs, le snapshot et le fichier relu doivent tous le refléter.
+ * Le code de sortie est 1 au moindre écart.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.taskmanager.benchmarks.TaskServiceStressCheck --tasks 2000 --threads 4 --operations 5000
+ * </pre>
+ */
+public final class TaskServiceStressCheck {
+
+    private static final int MAX_REPORTED_FAILURES = 20;
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private enum Mode {
+        DIRECT, QUEUED;
+
+        String label() {
+            return this == DIRECT ? "dispatcher direct" : "thread propriétaire (chargement différé)";
+        }
+    }
+
+    private final Mode mode;
+    private final int threads;
+    private final int operations;
+    private final long seed;
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+    private final Set<Integer> allocatedIds = ConcurrentHashMap.newKeySet();
+
+    private TaskServiceStressCheck(Mode mode, int threads, int operations, long seed) {
+        this.mode = mode;
+        this.threads = threads;
+        this.operations = operations;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = CommandLineOptions.parse(args,
+                Set.of("tasks", "threads", "operations", "seed", "mode"));
+        int tasks = options.getInt("tasks", 2000);
+        int threads = options.getInt("threads", 4);
+        int operations = options.getInt("operations", 5000);
+        long seed = options.getLong("seed", SyntheticTasks.DEFAULT_SEED);
+        String modes = options.getString("mode", "direct,queued");
+
+        int failed = 0;
+        for (String name : modes.split(",")) {
+            Mode mode = Mode.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            TaskServiceStressCheck check = new TaskServiceStressCheck(mode, threads, operations, seed);
+            long start = System.nanoTime();
+            check.run(tasks);
+            System.out.printf("%s: %d threads x %d opérations sur %d tâches, %d ms, %s%n", mode.label(), threads,
+                    operations, tasks, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    check.failures.isEmpty() ? "OK" : check.failures.size() + " écart(s)");
+            check.failures.stream().limit(MAX_REPORTED_FAILURES).forEach(failure -> System.out.println("  " + failure));
+            failed += check.failures.size();
+        }
+        System.exit(failed == 0 ? 0 : 1);
+    }
+
+    private void run(int initialTasks) throws Exception {
+        Path directory = SyntheticTasks.createTempDirectory();
+        QueuedDispatcher queued = mode == Mode.QUEUED ? new QueuedDispatcher() : null;
+        try {
+            Path file = SyntheticTasks.writeJson(directory.resolve("tasks.json"), SyntheticTasks.generate(initialTasks));
+            TaskService service;
+            if (queued == null) {
+                service = new TaskService(openStore(file), false, TaskDispatcher.direct());
+            } else {
+                service = TaskService.deferred(openStore(file), queued);
+                service.loadAsync(progress -> { }).join();
+            }
+
+            List<Map<Integer, Task>> models = partition(service.snapshot());
+            check(service.snapshot().size() == initialTasks,
+                    "chargement: " + service.snapshot().size() + " tâches au lieu de " + initialTasks);
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                Worker worker = new Worker(service, i, models.get(i));
+                workers.add(executor.submit(() -> {
+                    worker.run();
+                    return null;
+                }));
+            }
+            executor.shutdown();
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    failures.add("exception dans un thread: " + e.getCause());
+                }
+            }
+            service.flush().join();
+
+            Map<Integer, Task> expected = new HashMap<>();
+            models.forEach(expected::putAll);
+            onOwnerThread(queued, () -> {
+                verify(service, expected);
+                return null;
+            });
+            service.close();
+            verifyStored(file, expected);
+        } finally {
+            if (queued != null) {
+                queued.shutdown();
+            }
+            SyntheticTasks.deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Les tâches chargées sont réparties entre les threads selon leur id : chacun est seul à les modifier.
+     */
+    private List<Map<Integer, Task>> partition(List<Task> loaded) {
+        List<Map<Integer, Task>> models = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            models.add(new HashMap<>());
+        }
+        for (Task task : loaded) {
+            check(allocatedIds.add(task.getId()), "id chargé en double: " + task.getId());
+            models.get(task.getId() % threads).put(task.getId(), task.clone());
+        }
+        return models;
+    }
+
+    private final class Worker {
+
+        private final TaskService service;
+        private final int number;
+        private final Map<Integer, Task> model;
+        private final List<Integer> owned;
+        private final Set<Integer> deleted = new HashSet<>();
+        private final Random random;
+        private int created;
+
+        Worker(TaskService service, int number, Map<Integer, Task> model) {
+            this.service = service;
+            this.number = number;
+            this.model = model;
+            this.owned = new ArrayList<>(model.keySet());
+            this.random = new Random(seed + number);
+        }
+
+        void run() {
+            for (int i = 0; i < operations; i++) {
+                int draw = random.nextInt(100);
+                if (draw < 35 || owned.isEmpty()) {
+                    add();
+                } else if (draw < 65) {
+                    update();
+                } else if (draw < 80) {
+                    delete();
+                } else if (draw < 95) {
+                    search();
+                } else {
+                    checkSnapshot();
+                }
+            }
+        }
+
+        private void add() {
+            Task task = new Task();
+            task.setTitle("Stress " + token(number, created++));
+            task.setDescription("ajout concurrent");
+            randomize(task);
+            service.addTask(task);
+
+            int id = task.getId();
+            check(allocatedIds.add(id), "id attribué deux fois: " + id);
+            model.put(id, task.clone());
+            owned.add(id);
+            if (mode == Mode.DIRECT) {
+                check(service.findById(id).isPresent(), "tâche ajoutée introuvable: " + id);
+            }
+        }
+
+        private void update() {
+            int id = owned.get(random.nextInt(owned.size()));
+            Task task = model.get(id).clone();
+            task.setTitle(task.getTitle() + " v" + random.nextInt(10));
+            randomize(task);
+            service.updateTask(task);
+
+            model.put(id, task.clone());
+            if (mode == Mode.DIRECT) {
+                Optional<Task> stored = service.findById(id);
+                check(stored.isPresent() && sameFields(stored.get(), task), "modification perdue: " + id);
+            }
+        }
+
+        private void delete() {
+            int id = owned.remove(random.nextInt(owned.size()));
+            service.deleteTask(model.remove(id));
+            deleted.add(id);
+            if (mode == Mode.DIRECT) {
+                check(service.findById(id).isEmpty(), "tâche supprimée encore indexée: " + id);
+            }
+        }
+
+        private void search() {
+            int id = owned.get(random.nextInt(owned.size()));
+            BitSet matches = service.search(model.get(id).getTitle());
+            if (mode == Mode.DIRECT) {
+                check(matches != null && matches.get(id), "recherche sans la tâche " + id);
+            }
+        }
+
+        /**
+         * Le snapshot est pris pendant que les autres threads écrivent : il ne doit jamais montrer une tâche
+         * deux fois, et doit contenir les propres écritures de ce thread une fois celles-ci appliquées.
+         */
+        private void checkSnapshot() {
+            if (mode == Mode.QUEUED) {
+                service.flush().join();
+            }
+            List<Task> snapshot = service.snapshot();
+            Set<Integer> ids = new HashSet<>();
+            for (Task task : snapshot) {
+                check(task != null && ids.add(task.getId()), "snapshot incohérent: tâche nulle ou en double");
+            }
+            for (int id : owned) {
+                check(ids.contains(id), "snapshot sans la tâche " + id);
+            }
+            for (int id : deleted) {
+                check(!ids.contains(id), "snapshot avec la tâche supprimée " + id);
+            }
+            check(snapshot.size() == ids.size(), "snapshot modifié pendant sa lecture");
+        }
+
+        private void randomize(Task task) {
+            task.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            int day = random.nextInt(8);
+            task.setDueDate(day == 7 ? null : LocalDate.now().plusDays(day - 3));
+        }
+    }
+
+    private void verify(TaskService service, Map<Integer, Task> expected) {
+        List<Task> tasks = new ArrayList<>(service.getTasks());
+        Set<Integer> ids = tasks.stream().map(Task::getId).collect(Collectors.toSet());
+        check(ids.size() == tasks.size(), "ids en double dans la liste");
+        check(tasks.size() == expected.size(), "taille finale " + tasks.size() + " au lieu de " + expected.size());
+        check(ids.equals(expected.keySet()), "ids de la liste différents de ceux attendus");
+
+        for (Task task : tasks) {
+            Task model = expected.get(task.getId());
+            check(model != null && sameFields(task, model), "tâche " + task.getId() + " différente de l'attendu");
+            check(service.findById(task.getId()).orElse(null) == task, "index des ids faux pour " + task.getId());
+            BitSet matches = service.search(task.getTitle());
+            check(matches != null && matches.get(task.getId()), "index de recherche sans la tâche " + task.getId());
+        }
+        for (int id : allocatedIds) {
+            if (!expected.containsKey(id)) {
+                check(service.findById(id).isEmpty(), "tâche supprimée encore dans l'index des ids: " + id);
+            }
+        }
+        for (int worker = 0; worker < threads; worker++) {
+            BitSet matches = service.search(tokenPrefix(worker));
+            if (matches != null) {
+                matches.stream().forEach(id -> check(ids.contains(id), "index de recherche avec la tâche supprimée " + id));
+            }
+        }
+
+        check(idsOf(service.getOverdueTasks()).equals(idsOf(tasks.stream().filter(Task::isOverdue).toList())),
+                "tâches en retard différentes de la liste");
+        check(idsOf(service.getTasksDueToday()).equals(idsOf(tasks.stream().filter(Task::isDueToday).toList())),
+                "tâches du jour différentes de la liste");
+
+        for (Map.Entry<SortCriterion, Comparator<Task>> entry : sortOrders().entrySet()) {
+            List<Task> sorted = new ArrayList<>(service.getSortedTasks(entry.getKey()));
+            check(sorted.size() == tasks.size() && idsOf(sorted).equals(ids),
+                    "liste triée par " + entry.getKey() + " différente de la liste");
+            for (int i = 1; i < sorted.size(); i++) {
+                if (entry.getValue().compare(sorted.get(i - 1), sorted.get(i)) > 0) {
+                    check(false, "liste triée par " + entry.getKey() + " dans le désordre à la position " + i);
+                    break;
+                }
+            }
+        }
+
+        check(service.getStatistics().totalProperty().get() == tasks.size(), "statistiques: total faux");
+        for (Status status : STATUSES) {
+            List<Task> withStatus = tasks.stream().filter(task -> task.getStatus() == status).toList();
+            check(service.countTasksByStatus(status) == withStatus.size(), "compteur " + status + " faux");
+            check(idsOf(service.query(TaskQuery.all().withStatuses(status))).equals(idsOf(withStatus)),
+                    "requête par statut " + status + " différente de la liste");
+        }
+
+        List<Task> snapshot = service.snapshot();
+        check(snapshot.size() == tasks.size(), "snapshot final de " + snapshot.size() + " tâches");
+        for (int i = 0; i < Math.min(snapshot.size(), tasks.size()); i++) {
+            if (snapshot.get(i) != tasks.get(i)) {
+                check(false, "snapshot final différent de la liste à la position " + i);
+                break;
+            }
+        }
+    }
+
+    private void verifyStored(Path file, Map<Integer, Task> expected) throws IOException {
+        JsonTaskStore store = openStore(file);
+        try {
+            List<Task> stored = store.readAll();
+            check(stored.size() == expected.size(), "fichier relu: " + stored.size() + " tâches au lieu de " + expected.size());
+            for (Task task : stored) {
+                Task model = expected.get(task.getId());
+                check(model != null && sameFields(task, model), "tâche " + task.getId() + " mal enregistrée");
+            }
+        } finally {
+            store.close();
+        }
+    }
+
+    private static Map<SortCriterion, Comparator<Task>> sortOrders() {
+        Map<SortCriterion, Comparator<Task>> orders = new EnumMap<>(SortCriterion.class);
+        orders.put(SortCriterion.TITLE, Comparator.comparing(Task::getTitle, String.CASE_INSENSITIVE_ORDER));
+        orders.put(SortCriterion.PRIORITY, Comparator.comparingInt(task -> -task.getPriority().ordinal()));
+        orders.put(SortCriterion.DUE_DATE, Comparator.comparingInt(
+                task -> task.getDueEpochDay() == Task.NO_DATE ? Integer.MAX_VALUE : task.getDueEpochDay()));
+        orders.put(SortCriterion.STATUS, Comparator.comparingInt(task -> task.getStatus().ordinal()));
+        orders.put(SortCriterion.CREATED, Comparator.comparingLong(Task::getCreatedEpochSecond));
+        return orders;
+    }
+
+    private static boolean sameFields(Task actual, Task expected) {
+        return actual.getId() == expected.getId()
+                && Objects.equals(actual.getTitle(), expected.getTitle())
+                && Objects.equals(actual.getDescription(), expected.getDescription())
+                && actual.getPriority() == expected.getPriority()
+                && actual.getStatus() == expected.getStatus()
+                && actual.getDueEpochDay() == expected.getDueEpochDay();
+    }
+
+    private static Set<Integer> idsOf(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Mot propre à une tâche ajoutée : le suffixe évite qu'il soit le préfixe du mot d'une autre.
+     */
+    private static String token(int worker, int sequence) {
+        return tokenPrefix(worker) + sequence + "z";
+    }
+
+    private static String tokenPrefix(int worker) {
+        return "w" + worker + "n";
+    }
+
+    private static JsonTaskStore openStore(Path file) {
+        return new JsonTaskStore(file, TaskRepositories.newJsonMapper());
+    }
+
+    private <T> T onOwnerThread(QueuedDispatcher queued, Callable<T> action) throws Exception {
+        return queued == null ? action.call() : queued.call(action);
+    }
+
+    private void check(boolean condition, String failure) {
+        if (!condition) {
+            failures.add(failure);
+        }
+    }
+
+    /**
+     * Thread propriétaire de la liste, comme le thread JavaFX de l'application.
+     */
+    private static final class QueuedDispatcher implements TaskDispatcher {
+
+        private final ExecutorService executor;
+        private volatile Thread owner;
+
+        QueuedDispatcher() {
+            this.executor = Executors.newSingleThreadExecutor(action -> {
+                Thread thread = new Thread(action, "task-dispatch");
+                thread.setDaemon(true);
+                owner = thread;
+                return thread;
+            });
+        }
+
+        @Override
+        public boolean isDispatchThread() {
+            return Thread.currentThread() == owner;
+        }
+
+        @Override
+        public void dispatch(Runnable action) {
+            executor.execute(action);
+        }
+
+        <T> T call(Callable<T> action) throws Exception {
+            try {
+                return executor.submit(action).get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+
+        void shutdown() {
+            executor.shutdown();
+        }
+    }
+}
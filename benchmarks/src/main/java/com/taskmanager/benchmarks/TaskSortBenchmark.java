@@ -0,0 +1,80 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.enums.SortCriterion;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.service.TaskQuery;
+import com.taskmanager.service.TaskService;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Tri pour chaque critère : accès à la vue triée (ce que fait l'interface) puis première page,
+ * et requête filtrée triée.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskSortBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"title", "priority", "duedate", "status", "created"})
+    private String criterion;
+
+    private Path directory;
+    private TaskService service;
+    private TaskQuery todoQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = SyntheticTasks.createTempDirectory();
+        Path file = SyntheticTasks.writeJson(directory.resolve("tasks.json"), SyntheticTasks.generate(size));
+        service = new TaskService(file.toFile());
+        todoQuery = TaskQuery.all()
+                .withStatuses(Status.TODO)
+                .sortedBy(SortCriterion.fromKey(criterion))
+                .page(0, PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+        SyntheticTasks.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void sortTasks(Blackhole blackhole) {
+        List<Task> sorted = service.sortTasks(criterion);
+        int end = Math.min(PAGE_SIZE, sorted.size());
+        for (int i = 0; i < end; i++) {
+            blackhole.consume(sorted.get(i));
+        }
+    }
+
+    @Benchmark
+    public List<Task> querySortedPage() {
+        return service.query(todoQuery);
+    }
+}
@@ -1,18 +1,32 @@
 package com.taskmanager;
 
+import com.taskmanager.controller.MainController;
+import com.taskmanager.jfr.FlightRecording;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import java.lang.management.ManagementFactory;
 
 public class TaskManagerApplication extends Application {
 
+    /**
+     * Quitte dès la dernière tâche affichée en imprimant les durées de démarrage :
+     * mesure du démarrage à froid et exécution d'entraînement de l'archive CDS ({@code mvn -Pcds package}).
+     */
+    public static final String EXIT_AFTER_STARTUP_PROPERTY = "taskmanager.exitAfterStartup";
+
+    private MainController mainController;
+
     @Override
     public void start(Stage primaryStage) {
+        FlightRecording.startIfConfigured();
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/MainView.fxml"));
             Parent root = fxmlLoader.load();
+            mainController = fxmlLoader.getController();
 
             Scene mainScene = new Scene(root, 1200, 800);
 
@@ -32,6 +46,15 @@ public class TaskManagerApplication extends Application {
             primaryStage.setMinHeight(600);
 
             primaryStage.show();
+            long shownAfter = ManagementFactory.getRuntimeMXBean().getUptime();
+
+            if (Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY)) {
+                mainController.getInitialLoad().whenComplete((count, error) -> Platform.runLater(() -> {
+                    System.out.printf("Fenêtre affichée: %d ms, %d tâches chargées: %d ms%n",
+                            shownAfter, count == null ? 0 : count, ManagementFactory.getRuntimeMXBean().getUptime());
+                    Platform.exit();
+                }));
+            }
 
         } catch (Exception e) {
 
@@ -42,6 +65,14 @@ public class TaskManagerApplication extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (mainController != null) {
+            mainController.shutdown();
+        }
+        FlightRecording.stop();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
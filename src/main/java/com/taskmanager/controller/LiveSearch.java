@@ -0,0 +1,88 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.service.TaskService;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+/**
+ * Recherche au fil de la saisie : la requête part après un délai sans frappe,
+ * s'exécute sur un thread dédié et seul le résultat de la dernière requête est publié.
+ */
+public class LiveSearch {
+
+    public static final Duration DEFAULT_DEBOUNCE = Duration.millis(Integer.getInteger("taskmanager.search.debounce", 200));
+
+    private final TaskService service;
+    private final BiConsumer<String, BitSet> publisher;
+    private final PauseTransition debounce;
+    private final ExecutorService executor;
+    private String pendingQuery = "";
+    private long generation;
+    private Future<?> runningSearch;
+
+    public LiveSearch(TaskService service, BiConsumer<String, BitSet> publisher) {
+        this(service, DEFAULT_DEBOUNCE, publisher);
+    }
+
+    public LiveSearch(TaskService service, Duration debounceDelay, BiConsumer<String, BitSet> publisher) {
+        this.service = service;
+        this.publisher = publisher;
+        this.debounce = new PauseTransition(debounceDelay);
+        this.debounce.setOnFinished(event -> searchNow(pendingQuery));
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void setDebounce(Duration debounceDelay) {
+        debounce.setDuration(debounceDelay);
+    }
+
+    public void queryChanged(String query) {
+        pendingQuery = query.trim();
+        if (pendingQuery.isEmpty()) {
+            searchNow(pendingQuery);
+        } else {
+            debounce.playFromStart();
+        }
+    }
+
+    public void searchNow(String query) {
+        debounce.stop();
+        String trimmedQuery = query.trim();
+        long searchGeneration = ++generation;
+        if (runningSearch != null) {
+            runningSearch.cancel(true);
+        }
+
+        if (trimmedQuery.isEmpty()) {
+            runningSearch = null;
+            publisher.accept(trimmedQuery, null);
+            return;
+        }
+
+        runningSearch = executor.submit(() -> {
+            BitSet matchingIds = service.search(trimmedQuery);
+            if (Thread.currentThread().isInterrupted()) return;
+
+            Platform.runLater(() -> {
+                if (searchGeneration == generation) {
+                    publisher.accept(trimmedQuery, matchingIds);
+                }
+            });
+        });
+    }
+
+    public void shutdown() {
+        debounce.stop();
+        executor.shutdownNow();
+    }
+}
@@ -1,37 +1,79 @@
 package com.taskmanager.controller;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.SortCriterion;
 import com.taskmanager.enums.Status;
+import com.taskmanager.jfr.DialogOpenEvent;
+import com.taskmanager.jfr.FilterEvent;
+import com.taskmanager.jfr.SortEvent;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.metrics.MetricsSnapshot;
+import com.taskmanager.service.PagedTaskList;
+import com.taskmanager.service.TaskImport;
+import com.taskmanager.service.TaskQuery;
 import com.taskmanager.service.TaskService;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
+import com.taskmanager.service.TaskStatistics;
+import com.taskmanager.util.DateFormats;
+import com.taskmanager.util.Today;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class MainController implements Initializable {
 
     private TaskService service;
     private FilteredList<Task> filteredTaskList;
+    private PagedTaskList pagedTasks;
+    private LiveSearch liveSearch;
+    private TaskEditor taskEditor;
+    private TaskQuery activeQuery = TaskQuery.all();
+    private BitSet searchMatches;
+    private TaskImport runningImport;
+    private final Set<TableRow<Task>> taskRows = Collections.newSetFromMap(new WeakHashMap<>());
+    private PauseTransition dayRolloverTimer;
+    private Timeline metricsRefresh;
+    private CompletableFuture<Integer> initialLoad;
 
 
 
+    @FXML private Button addButton;
     @FXML private Button editButton;
     @FXML private Button deleteButton;
     @FXML private TextField searchField;
+    @FXML private Button searchButton;
     @FXML private ComboBox<String> sortComboBox;
 
     @FXML private ToggleButton allFilterButton;
@@ -42,11 +84,11 @@ public class MainController implements Initializable {
     @FXML private ToggleButton todayFilterButton;
 
     @FXML private TableView<Task> taskTableView;
-    @FXML private TableColumn<Task, String> statusColumn;
+    @FXML private TableColumn<Task, Status> statusColumn;
     @FXML private TableColumn<Task, String> titleColumn;
-    @FXML private TableColumn<Task, String> priorityColumn;
-    @FXML private TableColumn<Task, String> dueDateColumn;
-    @FXML private TableColumn<Task, String> createdColumn;
+    @FXML private TableColumn<Task, Priority> priorityColumn;
+    @FXML private TableColumn<Task, LocalDate> dueDateColumn;
+    @FXML private TableColumn<Task, LocalDateTime> createdColumn;
 
     @FXML private TextArea taskTitleArea;
     @FXML private TextArea taskDescriptionArea;
@@ -59,63 +101,112 @@ public class MainController implements Initializable {
     @FXML private Button markInProgressButton;
     @FXML private Button markCompletedButton;
 
+    @FXML private MenuItem newTaskMenuItem;
+    @FXML private MenuItem importMenuItem;
+    @FXML private MenuItem clearAllMenuItem;
     @FXML private Label statusLabel;
+    @FXML private ProgressBar importProgressBar;
+    @FXML private Button cancelImportButton;
     @FXML private Label taskCountLabel;
     @FXML private Label todoCountLabel;
     @FXML private Label inProgressCountLabel;
     @FXML private Label completedCountLabel;
 
+    @FXML private TitledPane diagnosticsPane;
+    @FXML private TableView<MetricRow> metricsTableView;
+    @FXML private TableColumn<MetricRow, String> metricNameColumn;
+    @FXML private TableColumn<MetricRow, String> metricCountColumn;
+    @FXML private TableColumn<MetricRow, String> metricRateColumn;
+    @FXML private TableColumn<MetricRow, String> metricMeanColumn;
+    @FXML private TableColumn<MetricRow, String> metricP50Column;
+    @FXML private TableColumn<MetricRow, String> metricP99Column;
+    @FXML private TableColumn<MetricRow, String> metricMaxColumn;
+    @FXML private Label metricsUptimeLabel;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
 
-        service = new TaskService();
+        service = TaskService.deferred();
+        service.getMetrics().registerMBean();
+        taskEditor = TaskEditor.create();
 
         initializeTableColumns();
         configureFiltersAndControls();
         setupEventHandlers();
-        refreshData();
+        bindStatusBar();
+        initializeDiagnostics();
         resetTaskDetails();
         setTaskActionsEnabled(false);
+        loadTasks();
 
     }
 
-    private void initializeTableColumns() {
-        statusColumn.setCellValueFactory(data ->
-                new SimpleStringProperty(data.getValue().getStatus().getDisplayName()));
+    /**
+     * Chargement initial des tâches, terminé une fois la dernière ligne affichée.
+     */
+    public CompletableFuture<Integer> getInitialLoad() {
+        return initialLoad;
+    }
 
-        titleColumn.setCellValueFactory(new PropertyValueFactory<>("title"));
+    /**
+     * La fenêtre s'affiche avant la lecture du fichier ; les lignes arrivent par morceaux pendant le chargement.
+     * Ajout, import et suppression totale attendent la fin : les identifiants ne sont connus qu'après la lecture.
+     */
+    private void loadTasks() {
+        showLoadProgress(true);
+        statusLabel.setText("Chargement des tâches...");
+        initialLoad = service.loadAsync(importProgressBar::setProgress);
+        initialLoad.whenComplete((count, error) -> Platform.runLater(() -> finishLoading(count, error)));
+    }
 
-        priorityColumn.setCellValueFactory(data ->
-                new SimpleStringProperty(data.getValue().getPriority().getDisplayName()));
+    private void finishLoading(Integer count, Throwable error) {
+        showLoadProgress(false);
+        if (error != null) {
+            statusLabel.setText("Chargement échoué");
+            displayMessage("Erreur", "Impossible de lire les tâches: " + error.getMessage());
+        } else {
+            statusLabel.setText(service.isPaged() ? "Mode paginé" : "Tâches chargées: " + count);
+        }
+    }
 
-        dueDateColumn.setCellValueFactory(data -> {
-                 LocalDate date = data.getValue().getDueDate();
-            String dateText = (date != null) ?
+    private void showLoadProgress(boolean loading) {
+        importProgressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        importProgressBar.setVisible(loading);
+        importProgressBar.setManaged(loading);
+        for (MenuItem item : List.of(newTaskMenuItem, importMenuItem, clearAllMenuItem)) {
+            item.setDisable(loading);
+        }
+        addButton.setDisable(loading);
+    }
 
-                    date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) : "";
-            return new SimpleStringProperty(dateText);
-        });
+    /**
+     * Les cellules lisent les getters de la tâche au rendu, sans créer ses propriétés JavaFX : elles resteraient
+     * attachées à chaque tâche affichée une fois, jusqu'à toutes les garder en faisant défiler la table.
+     * Les modifications arrivent par les événements de mise à jour de la liste (voir {@link #onTasksUpdated}).
+     */
+    private void initializeTableColumns() {
+        statusColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getStatus()));
+        statusColumn.setCellFactory(column -> new TaskTableCell<>(task -> task.getStatus().getDisplayName()));
+
+        titleColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().getTitle()));
+        titleColumn.setCellFactory(column -> new TaskTableCell<>(Task::getTitle));
 
-        createdColumn.setCellValueFactory(data ->
-                new SimpleStringProperty(data.getValue().getCreatedAt().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))));
+        priorityColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getPriority()));
+        priorityColumn.setCellFactory(column -> new TaskTableCell<>(task -> task.getPriority().getDisplayName()));
 
+        dueDateColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getDueDate()));
+        dueDateColumn.setCellFactory(column -> new TaskTableCell<>(Task::getDueDateText));
 
+        createdColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getCreatedAt()));
+        createdColumn.setCellFactory(column -> new TaskTableCell<>(Task::getCreatedAtText));
 
         taskTableView.setRowFactory(tableView -> {
                TableRow<Task> row = new TableRow<>();
+            taskRows.add(row);
 
             row.itemProperty().addListener((observable, oldTask, newTask) -> {
                 if (newTask != null) {
-                    row.getStyleClass().removeAll("overdue-task", "due-today-task", "completed-task");
-
-                    if (newTask.getStatus() == Status.COMPLETED) {
-                        row.getStyleClass().add("completed-task");
-
-                    } else if (newTask.isOverdue()) {
-                        row.getStyleClass().add("overdue-task");
-                    } else if (newTask.isDueToday()) {
-                        row.getStyleClass().add("due-today-task");
-                    }
+                    applyRowStyle(row, newTask);
                 }
             });
 
@@ -123,6 +214,7 @@ public class MainController implements Initializable {
         });
 
 
+        taskTableView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         taskTableView.getSelectionModel().selectedItemProperty().addListener(
                 (observable, previousTask, currentTask) -> {
 
@@ -138,9 +230,41 @@ public class MainController implements Initializable {
                 });
     }
 
+    private void showPagedTasks() {
+        try {
+            pagedTasks = service.openPagedView(Platform::runLater);
+            taskTableView.setItems(pagedTasks);
+        } catch (IOException e) {
+            displayMessage("Erreur", "Impossible de lire les tâches: " + e.getMessage());
+            return;
+        }
+
+        for (Control control : List.of(searchField, searchButton, sortComboBox, allFilterButton, todoFilterButton,
+                inProgressFilterButton, completedFilterButton, overdueFilterButton, todayFilterButton)) {
+            control.setDisable(true);
+        }
+        statusLabel.setText("Mode paginé");
+    }
+
+    private void applyRowStyle(TableRow<Task> row, Task task) {
+        row.getStyleClass().removeAll("overdue-task", "due-today-task", "completed-task");
+
+        if (task.getStatus() == Status.COMPLETED) {
+            row.getStyleClass().add("completed-task");
+
+        } else if (task.isOverdue()) {
+            row.getStyleClass().add("overdue-task");
+        } else if (task.isDueToday()) {
+            row.getStyleClass().add("due-today-task");
+        }
+    }
+
     private void configureFiltersAndControls() {
         filteredTaskList = new FilteredList<>(service.getTasks(), predicate -> true);
         taskTableView.setItems(filteredTaskList);
+        if (service.isPaged()) {
+            showPagedTasks();
+        }
 
         ToggleGroup filterGroup = new ToggleGroup();
 
@@ -159,27 +283,82 @@ public class MainController implements Initializable {
         allFilterButton.setSelected(true);
 
 
-              sortComboBox.setItems(FXCollections.observableArrayList("Titre", "Priorité", "Échéance", "Statut", "Date de création"));
-        sortComboBox.setValue("Titre");
+        for (SortCriterion criterion : SortCriterion.values()) {
+            sortComboBox.getItems().add(criterion.getDisplayName());
+        }
+        sortComboBox.setValue(SortCriterion.TITLE.getDisplayName());
     }
 
        private void setupEventHandlers() {
-        searchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            if (newValue.isEmpty()) {
-                performSearch();
+        liveSearch = new LiveSearch(service, this::applySearchResult);
+        searchField.textProperty().addListener((observable, oldValue, newValue) -> liveSearch.queryChanged(newValue));
+        searchField.setOnAction(event -> performSearch());
+
+        service.getTasks().addListener((ListChangeListener<Task>) change -> {
+            Set<Task> updated = new HashSet<>();
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updated.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+                }
+            }
+            if (!updated.isEmpty()) {
+                onTasksUpdated(updated);
+            }
+            if (!searchField.getText().isBlank()) {
+                liveSearch.queryChanged(searchField.getText());
             }
         });
 
-        searchField.setOnAction(event -> performSearch());
-
+        service.addDayRolloverListener(this::onDayRollover);
+        scheduleDayRollover();
+    }
 
-           service.getTasks().addListener((javafx.collections.ListChangeListener<Task>) change -> {
-            refreshStatusBar();
+    private void scheduleDayRollover() {
+        dayRolloverTimer = new PauseTransition(Duration.millis(Today.untilMidnight().toMillis() + 1000));
+        dayRolloverTimer.setOnFinished(event -> {
+            service.checkDayRollover();
+            scheduleDayRollover();
         });
+        dayRolloverTimer.play();
+    }
+
+    /**
+     * Une tâche affichée a changé : ses cellules sont relues (seules les lignes visibles existent) et sa ligne
+     * restylée, puis le panneau de détails suit.
+     */
+    private void onTasksUpdated(Set<Task> updated) {
+        boolean visible = false;
+        for (TableRow<Task> row : taskRows) {
+            Task task = row.getItem();
+            if (task != null && updated.contains(task)) {
+                applyRowStyle(row, task);
+                visible = true;
+            }
+        }
+        if (visible) {
+            taskTableView.refresh();
+        }
+
+        Task selectedTask = taskTableView.getSelectionModel().getSelectedItem();
+        if (selectedTask != null && updated.contains(selectedTask)) {
+            displayTaskDetails(selectedTask);
+        }
     }
 
-    private void refreshData() {
-        refreshStatusBar();
+    private void onDayRollover(List<Task> affectedTasks) {
+        Set<Task> affected = new HashSet<>(affectedTasks);
+        for (TableRow<Task> row : taskRows) {
+            Task task = row.getItem();
+            if (task != null && affected.contains(task)) {
+                applyRowStyle(row, task);
+            }
+        }
+
+        if (overdueFilterButton.isSelected()) {
+            handleShowOverdue(null);
+        } else if (todayFilterButton.isSelected()) {
+            handleShowToday(null);
+        }
     }
 
     public void handleNewTask(ActionEvent event) {
@@ -227,78 +406,94 @@ public class MainController implements Initializable {
     }
 
     private void performSearch() {
-        String query = searchField.getText().trim();
-        if (query.isEmpty()) {
+        liveSearch.searchNow(searchField.getText());
+    }
 
-            filteredTaskList.setPredicate(null);
-        } else {
-            filteredTaskList.setPredicate(task ->
-                    task.getTitle().toLowerCase().contains(query.toLowerCase()) ||
-                            task.getDescription().toLowerCase().contains(query.toLowerCase()));
-        }
+    private void applySearchResult(String query, BitSet matchingIds) {
+        activeQuery = activeQuery.withText(matchingIds == null ? null : query);
+        searchMatches = matchingIds;
+        refreshFilter();
         statusLabel.setText("Recherche: " + filteredTaskList.size() + " résultats");
     }
 
+    private void applyViewFilter(TaskQuery filter, String message) {
+        if (service.isPaged()) return;
+
+        activeQuery = filter.withText(activeQuery.getText()).sortedBy(activeQuery.getSort());
+        refreshFilter();
+        statusLabel.setText(message);
+    }
+
+    private void refreshFilter() {
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        filteredTaskList.setPredicate(activeQuery.toPredicate(searchMatches));
+        if (event.shouldCommit()) {
+            event.text = activeQuery.getText();
+            event.statuses = String.valueOf(activeQuery.getStatuses());
+            event.visibleRows = filteredTaskList.size();
+            event.totalRows = filteredTaskList.getSource().size();
+            event.commit();
+        }
+    }
+
 
     public void handleSort(ActionEvent event) {
-        String selectedCriteria = sortComboBox.getValue();
-        if (selectedCriteria != null) {
-            String criteriaKey = "";
-            switch (selectedCriteria) {
-
-                case "Titre":
-                    criteriaKey = "title";
-                    break;
-                case "Priorité":
-                    criteriaKey = "priority";
-                    break;
-                case "Échéance":
-                    criteriaKey = "duedate";
-                    break;
-                case "Statut":
-                    criteriaKey = "status";
-                    break;
-                case "Date de création":
-                    criteriaKey = "created";
-                    break;
+        SortCriterion criterion = SortCriterion.fromDisplayName(sortComboBox.getValue());
+        if (criterion != null && !service.isPaged()) {
+            SortEvent sortEvent = new SortEvent();
+            sortEvent.begin();
+            activeQuery = activeQuery.sortedBy(criterion);
+            showTasksFrom(service.getSortedTasks(criterion));
+            if (sortEvent.shouldCommit()) {
+                sortEvent.criterion = criterion.getKey();
+                sortEvent.visibleRows = filteredTaskList.size();
+                sortEvent.commit();
             }
-            if (!criteriaKey.isEmpty()) {
-                service.sortTasks(criteriaKey);
 
-                statusLabel.setText("Trié par " + selectedCriteria.toLowerCase());
-            }
+            statusLabel.setText("Trié par " + criterion.getDisplayName().toLowerCase());
+        }
+    }
+
+    private void showTasksFrom(ObservableList<Task> source) {
+        Task selectedTask = taskTableView.getSelectionModel().getSelectedItem();
+
+        FilteredList<Task> sortedView = new FilteredList<>(source, filteredTaskList.getPredicate());
+        filteredTaskList = sortedView;
+        taskTableView.setItems(sortedView);
+
+        if (selectedTask != null) {
+            taskTableView.getSelectionModel().select(selectedTask);
+            taskTableView.scrollTo(selectedTask);
         }
     }
 
     public void handleShowAll(ActionEvent event) {
-        filteredTaskList.setPredicate(null);
-        statusLabel.setText("Affichage: Toutes les tâches");
+        applyViewFilter(TaskQuery.all(), "Affichage: Toutes les tâches");
     }
 
     public void handleShowTodo(ActionEvent event) {
-        filteredTaskList.setPredicate(task -> task.getStatus() == Status.TODO);
-        statusLabel.setText("Affichage: Tâches à faire");
-
+        applyViewFilter(TaskQuery.all().withStatuses(Status.TODO), "Affichage: Tâches à faire");
     }
 
     public void handleShowInProgress(ActionEvent event) {
-        filteredTaskList.setPredicate(task -> task.getStatus() == Status.IN_PROGRESS);
-        statusLabel.setText("Affichage: Tâches en cours");
+        applyViewFilter(TaskQuery.all().withStatuses(Status.IN_PROGRESS), "Affichage: Tâches en cours");
     }
 
     public void handleShowCompleted(ActionEvent event) {
-        filteredTaskList.setPredicate(task -> task.getStatus() == Status.COMPLETED);
-        statusLabel.setText("Affichage: Tâches terminées");
+        applyViewFilter(TaskQuery.all().withStatuses(Status.COMPLETED), "Affichage: Tâches terminées");
     }
 
     public void handleShowOverdue(ActionEvent event) {
-        filteredTaskList.setPredicate(Task::isOverdue);
-        statusLabel.setText("Affichage: Tâches en retard");
+        LocalDate yesterday = Today.date().minusDays(1);
+        applyViewFilter(TaskQuery.all().withStatuses(Status.TODO, Status.IN_PROGRESS).withDueBetween(null, yesterday),
+                "Affichage: Tâches en retard");
     }
 
     public void handleShowToday(ActionEvent event) {
-        filteredTaskList.setPredicate(Task::isDueToday);
-        statusLabel.setText("Affichage: Tâches dues aujourd'hui");
+        LocalDate today = Today.date();
+        applyViewFilter(TaskQuery.all().withStatuses(Status.TODO, Status.IN_PROGRESS).withDueBetween(today, today),
+                "Affichage: Tâches dues aujourd'hui");
     }
 
     public void handleMarkAsTodo(ActionEvent event) {
@@ -314,15 +509,24 @@ public class MainController implements Initializable {
     }
 
     private void updateTaskStatus(Status status) {
-
+        List<Task> selectedTasks = new ArrayList<>(taskTableView.getSelectionModel().getSelectedItems());
+        if (selectedTasks.isEmpty()) return;
+
+        service.batch(batch -> {
+            for (Task task : selectedTasks) {
+                // Un clone : le service recopie les champs dans la tâche de la liste, en un seul événement pour le lot.
+                Task updated = task.clone();
+                updated.setStatus(status);
+                batch.update(updated);
+            }
+        });
 
         Task selectedTask = taskTableView.getSelectionModel().getSelectedItem();
         if (selectedTask != null) {
-            selectedTask.setStatus(status);
-            service.updateTask(selectedTask);
             displayTaskDetails(selectedTask);
-            statusLabel.setText("Statut mis à jour: " + status.getDisplayName());
         }
+        statusLabel.setText("Statut mis à jour: " + status.getDisplayName()
+                + (selectedTasks.size() > 1 ? " (" + selectedTasks.size() + " tâches)" : ""));
     }
 
     public void handleImport(ActionEvent event) {
@@ -333,16 +537,53 @@ public class MainController implements Initializable {
 
         File file = chooser.showOpenDialog(getCurrentStage());
         if (file != null) {
-            try {
-                service.importTasks(file);
-                statusLabel.setText("Tâches importées avec succès");
-            } catch (IOException e) {
-                displayMessage("Erreur d'importation",
-                        "Impossible d'importer le fichier: " + e.getMessage());
-            }
+            showImportProgress(true);
+            statusLabel.setText("Importation en cours...");
+            runningImport = service.importTasksAsync(file,
+                    progress -> Platform.runLater(() -> importProgressBar.setProgress(progress)));
+            runningImport.result().whenComplete((result, error) -> Platform.runLater(() -> finishImport(result, error)));
         }
     }
 
+    public void handleCancelImport(ActionEvent event) {
+        if (runningImport != null) {
+            runningImport.cancel();
+            statusLabel.setText("Annulation de l'importation...");
+        }
+    }
+
+    private void finishImport(TaskImport.Result result, Throwable error) {
+        runningImport = null;
+        showImportProgress(false);
+
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            statusLabel.setText("Importation échouée");
+            displayMessage("Erreur d'importation",
+                    "Impossible d'importer le fichier: " + cause.getMessage());
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(result.cancelled() ? "Importation annulée: " : "Tâches importées: ")
+                .append(result.imported());
+        if (result.duplicates() > 0) {
+            message.append(", doublons ignorés: ").append(result.duplicates());
+        }
+        if (result.invalid() > 0) {
+            message.append(", invalides ignorées: ").append(result.invalid());
+        }
+        statusLabel.setText(message.toString());
+    }
+
+    private void showImportProgress(boolean importing) {
+        importProgressBar.setProgress(0);
+        importProgressBar.setVisible(importing);
+        importProgressBar.setManaged(importing);
+        cancelImportButton.setVisible(importing);
+        cancelImportButton.setManaged(importing);
+        importMenuItem.setDisable(importing);
+    }
+
     public void handleExport(ActionEvent event) {
         FileChooser chooser = new FileChooser();
         chooser.setTitle("Exporter les tâches");
@@ -390,16 +631,18 @@ public class MainController implements Initializable {
     }
 
     private void openTaskDialog(Task taskToEdit) {
+        DialogOpenEvent openEvent = new DialogOpenEvent();
+        openEvent.begin();
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/TaskDialog.fxml"));
-            DialogPane pane = loader.load();
-
-            TaskDialogController dialogController = loader.getController();
-            dialogController.setTask(taskToEdit);
-
-            Dialog<ButtonType> dialog = new Dialog<>();
-            dialog.setDialogPane(pane);
+            Dialog<ButtonType> dialog = taskEditor.prepare(taskToEdit);
+            TaskDialogController dialogController = taskEditor.getController();
             dialog.setTitle(taskToEdit == null ? "Nouvelle Tâche" : "Modifier Tâche");
+            dialog.setOnShown(shown -> {
+                if (openEvent.shouldCommit()) {
+                    openEvent.editing = taskToEdit != null;
+                    openEvent.commit();
+                }
+            });
 
             Optional<ButtonType> result = dialog.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) {
@@ -429,15 +672,13 @@ public class MainController implements Initializable {
         taskStatusValue.setText(task.getStatus().getDisplayName());
 
 
-        String dueDateText = (task.getDueDate() != null) ?
-                task.getDueDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) : "Aucune";
+        String dueDateText = (task.getDueDate() != null) ? task.getDueDateText() : "Aucune";
         taskDueDateValue.setText(dueDateText);
 
-        taskCreatedValue.setText(task.getCreatedAt().format(
-                DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+        taskCreatedValue.setText(task.getCreatedAtText());
 
         String completedText = (task.getCompletedAt() != null) ?
-                task.getCompletedAt().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) :  "Non terminée";
+                DateFormats.DATE_TIME.format(task.getCompletedAt()) :  "Non terminée";
         taskCompletedValue.setText(completedText);
     }
 
@@ -461,16 +702,70 @@ public class MainController implements Initializable {
         markCompletedButton.setDisable(!enabled);
     }
 
-    private void refreshStatusBar() {
-        long total = service.getTasks().size();
-        long todoTasks = service.countTasksByStatus(Status.TODO);
-        long inProgressTasks = service.countTasksByStatus(Status.IN_PROGRESS);
-        long completedTasks = service.countTasksByStatus(Status.COMPLETED);
+    private void bindStatusBar() {
+        TaskStatistics statistics = service.getStatistics();
+
+        if (pagedTasks != null) {
+            taskCountLabel.textProperty().bind(Bindings.concat("Total: ", Bindings.size(pagedTasks), " tâches"));
+        } else {
+            taskCountLabel.textProperty().bind(Bindings.concat("Total: ", statistics.totalProperty(), " tâches"));
+        }
+        todoCountLabel.textProperty().bind(Bindings.concat("À faire: ", statistics.statusCountProperty(Status.TODO)));
+        inProgressCountLabel.textProperty().bind(Bindings.concat("En cours: ", statistics.statusCountProperty(Status.IN_PROGRESS)));
+        completedCountLabel.textProperty().bind(Bindings.concat("Terminées: ", statistics.statusCountProperty(Status.COMPLETED)));
+    }
+
+    /**
+     * Le panneau de diagnostic ne se rafraîchit que déplié.
+     */
+    private void initializeDiagnostics() {
+        metricNameColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().name()));
+        metricCountColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().count()));
+        metricRateColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().rate()));
+        metricMeanColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().mean()));
+        metricP50Column.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().p50()));
+        metricP99Column.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().p99()));
+        metricMaxColumn.setCellValueFactory(data -> new ReadOnlyStringWrapper(data.getValue().max()));
+
+        metricsRefresh = new Timeline(new KeyFrame(Duration.seconds(1), event -> refreshMetrics()));
+        metricsRefresh.setCycleCount(Animation.INDEFINITE);
+        diagnosticsPane.expandedProperty().addListener((observable, wasExpanded, expanded) -> {
+            if (expanded) {
+                refreshMetrics();
+                metricsRefresh.play();
+            } else {
+                metricsRefresh.stop();
+            }
+        });
+    }
+
+    private void refreshMetrics() {
+        MetricsSnapshot snapshot = service.getMetrics().snapshot();
+        metricsTableView.getItems().setAll(MetricRow.from(snapshot));
+        metricsUptimeLabel.setText("Depuis " + (long) snapshot.uptimeSeconds() / 60 + " min");
+    }
+
+    public void handleResetMetrics(ActionEvent event) {
+        service.getMetrics().reset();
+        refreshMetrics();
+    }
 
-        taskCountLabel.setText("Total: " + total + " tâches");
-        todoCountLabel.setText("À faire: " + todoTasks);
-        inProgressCountLabel.setText("En cours: " + inProgressTasks);
-        completedCountLabel.setText("Terminées: " + completedTasks);
+    public void handleExportMetrics(ActionEvent event) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Exporter les mesures");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Fichiers JSON", "*.json"));
+        chooser.setInitialFileName("mesures.json");
+
+        File file = chooser.showSaveDialog(getCurrentStage());
+        if (file != null) {
+            try {
+                service.getMetrics().writeTo(file.toPath());
+                statusLabel.setText("Mesures exportées");
+            } catch (IOException e) {
+                displayMessage("Erreur d'exportation",
+                        "Impossible d'exporter les mesures: " + e.getMessage());
+            }
+        }
     }
 
     private void displayMessage(String title, String message) {
@@ -484,6 +779,26 @@ public class MainController implements Initializable {
         alert.showAndWait();
     }
 
+    public void shutdown() {
+        dayRolloverTimer.stop();
+        liveSearch.shutdown();
+        if (runningImport != null) {
+            runningImport.cancel();
+        }
+        metricsRefresh.stop();
+        service.close();
+
+        String metricsFile = System.getProperty(MetricsRegistry.EXPORT_PROPERTY);
+        if (metricsFile != null) {
+            try {
+                service.getMetrics().writeTo(Path.of(metricsFile));
+            } catch (IOException e) {
+                System.err.println("Erreur export des mesures: " + e.getMessage());
+            }
+        }
+        service.getMetrics().unregisterMBean();
+    }
+
     private Stage getCurrentStage() {
 
 
@@ -0,0 +1,46 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.metrics.HistogramSnapshot;
+import com.taskmanager.metrics.MetricsSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ligne du panneau de diagnostic, valeurs déjà mises en forme : durées en µs ou ms,
+ * histogrammes de tailles en octets, compteurs avec leur débit par seconde.
+ */
+record MetricRow(String name, String count, String rate, String mean, String p50, String p99, String max) {
+
+    static List<MetricRow> from(MetricsSnapshot snapshot) {
+        List<MetricRow> rows = new ArrayList<>();
+        snapshot.timers().forEach((name, timer) -> {
+            if (timer.count() > 0) rows.add(timerRow(name, timer));
+        });
+        snapshot.histograms().forEach((name, histogram) -> {
+            if (histogram.count() > 0) rows.add(sizeRow(name, histogram));
+        });
+        snapshot.counters().forEach((name, counter) -> rows.add(new MetricRow(name,
+                Long.toString(counter.count()), format("%.1f", counter.rate()), "", "", "", "")));
+        return rows;
+    }
+
+    private static MetricRow timerRow(String name, HistogramSnapshot timer) {
+        return new MetricRow(name, Long.toString(timer.count()), "",
+                duration(timer.mean()), duration(timer.p50()), duration(timer.p99()), duration(timer.max()));
+    }
+
+    private static MetricRow sizeRow(String name, HistogramSnapshot histogram) {
+        return new MetricRow(name, Long.toString(histogram.count()), "",
+                format("%.0f o", histogram.mean()), format("%.0f o", histogram.p50()),
+                format("%.0f o", histogram.p99()), format("%.0f o", histogram.max()));
+    }
+
+    private static String duration(double micros) {
+        return micros >= 1000 ? format("%.1f ms", micros / 1000) : format("%.1f µs", micros);
+    }
+
+    private static String format(String pattern, double value) {
+        return String.format(Locale.FRANCE, pattern, value);
+    }
+}
@@ -1,15 +1,17 @@
 package com.taskmanager.controller;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskValidation;
 import com.taskmanager.enums.Priority;
 import com.taskmanager.enums.Status;
+import com.taskmanager.util.DateFormats;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 import javafx.util.StringConverter;
 import java.net.URL;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
 import java.util.ResourceBundle;
 
 public class TaskDialogController implements Initializable {
@@ -120,6 +122,9 @@ public class TaskDialogController implements Initializable {
             performValidation();});
     }
 
+    /**
+     * La fenêtre est réutilisée d'une ouverture à l'autre : tout l'état du passage précédent est remplacé ici.
+     */
     public void setTask(Task task) {
         this.editingTask = task;
         this.editingMode = (task != null);
@@ -133,6 +138,7 @@ public class TaskDialogController implements Initializable {
         }
 
         performValidation();
+        titleField.requestFocus();
     }
 
     private void populateFieldsForEditing() {
@@ -143,18 +149,16 @@ public class TaskDialogController implements Initializable {
         statusComboBox.setValue(editingTask.getStatus());
 
 
-        dueDatePicker.setValue(editingTask.getDueDate());
+        resetDueDate(editingTask.getDueDate());
     }
 
     private void displayAdditionalInfo() {
         additionalInfoBox.setVisible(true);
 
-        String createdText = editingTask.getCreatedAt().format(
-                DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
-        createdAtLabel.setText(createdText);
+        createdAtLabel.setText(editingTask.getCreatedAtText());
 
         String completedText = (editingTask.getCompletedAt() != null) ?
-                editingTask.getCompletedAt().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) :
+                DateFormats.DATE_TIME.format(editingTask.getCompletedAt()) :
                 "Non terminée";
         completedAtLabel.setText(completedText);
     }
@@ -165,7 +169,16 @@ public class TaskDialogController implements Initializable {
         descriptionArea.clear();
         priorityComboBox.setValue(Priority.MEDIUM);
         statusComboBox.setValue(Status.TODO);
+        resetDueDate(null);
+    }
+
+    /**
+     * Une date tapée sans être validée reste dans l'éditeur si la valeur ne change pas : on le vide d'abord.
+     */
+    private void resetDueDate(LocalDate dueDate) {
         dueDatePicker.setValue(null);
+        dueDatePicker.getEditor().clear();
+        dueDatePicker.setValue(dueDate);
     }
 
 
@@ -229,13 +242,12 @@ public class TaskDialogController implements Initializable {
 
                 String titleText = titleField.getText();
 
-                boolean isTitleValid = titleText != null && !titleText.trim().isEmpty();
+                boolean isTitleValid = TaskValidation.isTitlePresent(titleText);
 
-                boolean isTitleLengthValid = isTitleValid && titleText.trim().length() <= 100;
+                boolean isTitleLengthValid = TaskValidation.isTitleLengthValid(titleText);
 
                 String descriptionText = descriptionArea.getText();
-                boolean isDescriptionValid = descriptionText == null ||
-                        descriptionText.trim().length() <= 500;
+                boolean isDescriptionValid = TaskValidation.isDescriptionValid(descriptionText);
 
 
                 boolean isPriorityValid = priorityComboBox.getValue() != null;
@@ -289,12 +301,12 @@ public class TaskDialogController implements Initializable {
         } else if (!isTitleLengthValid) {
 
 
-            errorMessage.append("Le titre ne peut pas dépasser 100 caractères.\n");
+            errorMessage.append("Le titre ne peut pas dépasser " + TaskValidation.MAX_TITLE_LENGTH + " caractères.\n");
         }
 
         if (!isDescriptionValid) {
 
-            errorMessage.append("La description ne peut pas dépasser 500 caractères svp.\n");
+            errorMessage.append("La description ne peut pas dépasser " + TaskValidation.MAX_DESCRIPTION_LENGTH + " caractères svp.\n");
         }
 
         if (errorMessage.length() > 0) {
@@ -0,0 +1,91 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.model.Task;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.DialogPane;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Fenêtre d'édition des tâches construite une seule fois puis réutilisée : le FXML et sa feuille de style
+ * ne sont analysés qu'une fois, au premier usage ou à l'avance sur un thread d'arrière-plan.
+ * Le préchargement se désactive avec {@code -Dtaskmanager.dialog.preload=false}.
+ */
+final class TaskEditor {
+
+    static final String PRELOAD_PROPERTY = "taskmanager.dialog.preload";
+
+    private static final String FXML = "/fxml/TaskDialog.fxml";
+
+    private final CompletableFuture<LoadedPane> preloading;
+    private Dialog<ButtonType> dialog;
+    private TaskDialogController controller;
+
+    private TaskEditor(CompletableFuture<LoadedPane> preloading) {
+        this.preloading = preloading;
+    }
+
+    static TaskEditor create() {
+        if (!Boolean.parseBoolean(System.getProperty(PRELOAD_PROPERTY, "true"))) {
+            return new TaskEditor(null);
+        }
+
+        CompletableFuture<LoadedPane> preloading = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                preloading.complete(load());
+            } catch (IOException | RuntimeException e) {
+                preloading.completeExceptionally(e);
+            }
+        }, "task-dialog-preload");
+        thread.setDaemon(true);
+        thread.start();
+        return new TaskEditor(preloading);
+    }
+
+    /**
+     * Prépare la fenêtre pour {@code task} (null : nouvelle tâche). Le panneau est chargé hors du thread
+     * JavaFX, la fenêtre elle-même est créée ici, au premier appel.
+     */
+    Dialog<ButtonType> prepare(Task task) throws IOException {
+        if (dialog == null) {
+            LoadedPane loaded = awaitPane();
+            controller = loaded.controller();
+            dialog = new Dialog<>();
+            dialog.setDialogPane(loaded.pane());
+        } else {
+            // Le résultat du passage précédent resterait sinon celui renvoyé si la fenêtre est fermée
+            // sans bouton ; sur une fenêtre masquée, la remise à zéro se résout en Annuler.
+            dialog.setResult(null);
+        }
+        controller.setTask(task);
+        return dialog;
+    }
+
+    TaskDialogController getController() {
+        return controller;
+    }
+
+    private LoadedPane awaitPane() throws IOException {
+        if (preloading != null) {
+            try {
+                return preloading.join();
+            } catch (CompletionException e) {
+                // Le chargement est retenté sur le thread JavaFX, qui signale l'erreur s'il échoue aussi.
+            }
+        }
+        return load();
+    }
+
+    private static LoadedPane load() throws IOException {
+        FXMLLoader loader = new FXMLLoader(TaskEditor.class.getResource(FXML));
+        DialogPane pane = loader.load();
+        return new LoadedPane(pane, loader.getController());
+    }
+
+    private record LoadedPane(DialogPane pane, TaskDialogController controller) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.model.Task;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableRow;
+import java.util.function.Function;
+
+/**
+ * Cellule qui affiche un texte déjà calculé par la tâche de la ligne (chaîne mise en cache
+ * ou nom d'affichage d'une énumération), sans allocation lors du rendu.
+ */
+public class TaskTableCell<T> extends TableCell<Task, T> {
+
+    private final Function<Task, String> textProvider;
+
+    public TaskTableCell(Function<Task, String> textProvider) {
+        this.textProvider = textProvider;
+    }
+
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+
+        TableRow<Task> row = getTableRow();
+        Task task = (row != null) ? row.getItem() : null;
+        if (empty || task == null) {
+            setText(null);
+        } else {
+            setText(textProvider.apply(task));
+        }
+    }
+}
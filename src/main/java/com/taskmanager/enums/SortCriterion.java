@@ -0,0 +1,43 @@
+package com.taskmanager.enums;
+
+public enum SortCriterion {
+    TITLE("title", "Titre"),
+    PRIORITY("priority", "Priorité"),
+    DUE_DATE("duedate", "Échéance"),
+    STATUS("status", "Statut"),
+    CREATED("created", "Date de création");
+
+    private final String key;
+    private final String displayName;
+
+    SortCriterion(String key, String displayName) {
+        this.key = key;
+        this.displayName = displayName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static SortCriterion fromKey(String key) {
+        for (SortCriterion criterion : values()) {
+            if (criterion.key.equalsIgnoreCase(key)) {
+                return criterion;
+            }
+        }
+        return TITLE;
+    }
+
+    public static SortCriterion fromDisplayName(String displayName) {
+        for (SortCriterion criterion : values()) {
+            if (criterion.displayName.equals(displayName)) {
+                return criterion;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.DialogOpen")
+@Label("Ouverture du dialogue")
+@Description("Du clic à l'affichage du dialogue de tâche, chargement du FXML compris")
+@Category({"Gestionnaire de Tâches", "Interface"})
+@StackTrace(false)
+public class DialogOpenEvent extends Event {
+
+    @Label("Modification")
+    @Description("Faux pour une nouvelle tâche")
+    public boolean editing;
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.Filter")
+@Label("Filtrage de la table")
+@Description("Nouveau prédicat de la FilteredList, évalué sur toutes les lignes")
+@Category({"Gestionnaire de Tâches", "Interface"})
+@StackTrace(false)
+public class FilterEvent extends Event {
+
+    @Label("Texte")
+    public String text;
+
+    @Label("Statuts")
+    public String statuses;
+
+    @Label("Lignes affichées")
+    public int visibleRows;
+
+    @Label("Lignes")
+    public int totalRows;
+}
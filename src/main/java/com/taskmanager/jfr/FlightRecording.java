@@ -0,0 +1,55 @@
+package com.taskmanager.jfr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Enregistrement JFR lancé par l'application avec le profil {@value #PROFILE} :
+ * {@code -Dtaskmanager.jfr=session.jfr} enregistre toute la session dans ce fichier, écrit à la fermeture.
+ * Le même profil s'utilise avec {@code jcmd <pid> JFR.start settings=...} une fois extrait du jar.
+ */
+public final class FlightRecording {
+
+    public static final String FILE_PROPERTY = "taskmanager.jfr";
+    public static final String PROFILE = "/jfr/taskmanager.jfc";
+
+    private static Recording recording;
+
+    private FlightRecording() {
+    }
+
+    public static synchronized void startIfConfigured() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || recording != null) return;
+
+        try (InputStream in = FlightRecording.class.getResourceAsStream(PROFILE);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            recording = new Recording(Configuration.create(reader));
+            recording.setName("taskmanager");
+            recording.setDestination(Path.of(file));
+            recording.setToDisk(true);
+            recording.start();
+        } catch (IOException | ParseException | RuntimeException e) {
+            recording = null;
+            System.err.println("Erreur démarrage de l'enregistrement JFR: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Arrête l'enregistrement en cours, ce qui écrit le fichier.
+     */
+    public static synchronized void stop() {
+        if (recording == null) return;
+
+        recording.stop();
+        recording.close();
+        recording = null;
+    }
+}
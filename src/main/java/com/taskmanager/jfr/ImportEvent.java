@@ -0,0 +1,34 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.Import")
+@Label("Import")
+@Category({"Gestionnaire de Tâches", "Persistance"})
+@StackTrace(false)
+public class ImportEvent extends Event {
+
+    @Label("Fichier")
+    public String file;
+
+    @Label("Taille du fichier")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Importées")
+    public int imported;
+
+    @Label("Invalides")
+    public int invalid;
+
+    @Label("Doublons")
+    public int duplicates;
+
+    @Label("Annulé")
+    public boolean cancelled;
+}
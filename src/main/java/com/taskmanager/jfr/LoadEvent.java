@@ -0,0 +1,22 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.Load")
+@Label("Chargement")
+@Description("Chargement des tâches au démarrage du service")
+@Category({"Gestionnaire de Tâches", "Persistance"})
+@StackTrace(false)
+public class LoadEvent extends Event {
+
+    @Label("Stockage")
+    public String storage;
+
+    @Label("Tâches")
+    public int tasks;
+}
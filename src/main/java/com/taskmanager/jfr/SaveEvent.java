@@ -0,0 +1,28 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.Save")
+@Label("Sauvegarde")
+@Description("Écriture d'un lot de mutations dans le stockage")
+@Category({"Gestionnaire de Tâches", "Persistance"})
+@StackTrace(false)
+public class SaveEvent extends Event {
+
+    @Label("Stockage")
+    public String storage;
+
+    @Label("Entrées")
+    public int records;
+
+    @Label("Octets écrits")
+    @Description("-1 si le stockage ne les compte pas")
+    @DataAmount
+    public long bytes;
+}
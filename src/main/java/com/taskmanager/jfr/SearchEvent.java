@@ -0,0 +1,20 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.Search")
+@Label("Recherche")
+@Category({"Gestionnaire de Tâches", "Recherche"})
+@StackTrace(false)
+public class SearchEvent extends Event {
+
+    @Label("Requête")
+    public String query;
+
+    @Label("Résultats")
+    public int hits;
+}
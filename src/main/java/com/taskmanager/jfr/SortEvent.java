@@ -0,0 +1,22 @@
+package com.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmanager.Sort")
+@Label("Tri de la table")
+@Description("Changement de critère de tri, jusqu'à l'affichage de la vue triée")
+@Category({"Gestionnaire de Tâches", "Interface"})
+@StackTrace(false)
+public class SortEvent extends Event {
+
+    @Label("Critère")
+    public String criterion;
+
+    @Label("Lignes affichées")
+    public int visibleRows;
+}
@@ -0,0 +1,79 @@
+package com.taskmanager.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteur avec son débit : moyenne glissante exponentielle sur une minute, mise à jour par pas de 5 secondes
+ * au fil des incréments et des lectures, sans thread dédié.
+ */
+public final class Counter {
+
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final double TICK_SECONDS = 5.0;
+    private static final double ALPHA = 1 - Math.exp(-TICK_SECONDS / 60);
+    private static final int MAX_CATCH_UP_TICKS = 60;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder uncounted = new LongAdder();
+    private final AtomicLong lastTick = new AtomicLong(System.nanoTime());
+    private volatile double rate;
+    private volatile boolean rateInitialized;
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(long amount) {
+        tickIfNeeded();
+        count.add(amount);
+        uncounted.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Événements par seconde sur la dernière minute environ.
+     */
+    public double getRate() {
+        tickIfNeeded();
+        return rate;
+    }
+
+    public void reset() {
+        count.reset();
+        uncounted.reset();
+        rate = 0;
+        rateInitialized = false;
+    }
+
+    private void tickIfNeeded() {
+        long now = System.nanoTime();
+        long last = lastTick.get();
+        long age = now - last;
+        if (age < TICK_NANOS || !lastTick.compareAndSet(last, now - age % TICK_NANOS)) return;
+
+        long ticks = age / TICK_NANOS;
+        tick(uncounted.sumThenReset());
+        if (ticks > MAX_CATCH_UP_TICKS) {
+            rate = 0;
+            return;
+        }
+        for (long i = 1; i < ticks; i++) {
+            tick(0);
+        }
+    }
+
+    private void tick(long events) {
+        double instantRate = events / TICK_SECONDS;
+        if (rateInitialized) {
+            rate += ALPHA * (instantRate - rate);
+        } else {
+            rate = instantRate;
+            rateInitialized = true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Vue JMX des mesures, sous {@value MetricsRegistry#OBJECT_NAME}. Les statistiques des minuteries
+ * et des histogrammes sont à plat : {@code <nom>.count}, {@code .mean}, {@code .p50}, {@code .p90},
+ * {@code .p99}, {@code .p999} et {@code .max}, les durées en microsecondes.
+ */
+public interface MetricsMXBean {
+
+    double getUptimeSeconds();
+
+    Map<String, Long> getCounters();
+
+    Map<String, Double> getRates();
+
+    Map<String, Double> getTimers();
+
+    Map<String, Double> getHistograms();
+
+    void reset();
+
+    /**
+     * Écrit les mesures en JSON dans {@code file} et renvoie son chemin absolu.
+     */
+    String exportTo(String file) throws IOException;
+}
@@ -0,0 +1,149 @@
+package com.taskmanager.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Mesures d'un {@code TaskService} : minuteries (durées en nanosecondes), histogrammes de valeurs et compteurs,
+ * créés à la première demande. Lisible par JMX ({@link #registerMBean}), en JSON ({@link #writeTo})
+ * ou via {@link #snapshot()}.
+ */
+public final class MetricsRegistry implements MetricsMXBean {
+
+    public static final String OBJECT_NAME = "com.taskmanager:type=TaskService";
+    public static final String EXPORT_PROPERTY = "taskmanager.metrics.file";
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final ConcurrentMap<String, Histogram> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private ObjectName registeredName;
+
+    public Histogram timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<String, HistogramSnapshot> timerValues = new TreeMap<>();
+        timers.forEach((name, timer) -> timerValues.put(name, timer.snapshot(NANOS_PER_MICRO)));
+        Map<String, HistogramSnapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot(1)));
+        Map<String, MetricsSnapshot.CounterValue> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) ->
+                counterValues.put(name, new MetricsSnapshot.CounterValue(counter.getCount(), counter.getRate())));
+
+        return new MetricsSnapshot(Instant.now().toString(), getUptimeSeconds(), timerValues, histogramValues, counterValues);
+    }
+
+    public void writeTo(Path file) throws IOException {
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), snapshot());
+    }
+
+    /**
+     * Enregistre les mesures auprès du serveur JMX de la plateforme ; un second service dans la même JVM
+     * est enregistré avec un suffixe {@code instance}.
+     */
+    public void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            for (int instance = 2; server.isRegistered(name); instance++) {
+                name = new ObjectName(OBJECT_NAME + ",instance=" + instance);
+            }
+            server.registerMBean(this, name);
+            registeredName = name;
+        } catch (JMException e) {
+            System.err.println("Erreur JMX: " + e.getMessage());
+        }
+    }
+
+    public void unregisterMBean() {
+        if (registeredName == null) return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException e) {
+            System.err.println("Erreur JMX: " + e.getMessage());
+        }
+        registeredName = null;
+    }
+
+    @Override
+    public double getUptimeSeconds() {
+        return (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.getCount()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getRates() {
+        Map<String, Double> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.getRate()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getTimers() {
+        return flatten(snapshot().timers());
+    }
+
+    @Override
+    public Map<String, Double> getHistograms() {
+        return flatten(snapshot().histograms());
+    }
+
+    @Override
+    public void reset() {
+        timers.values().forEach(Histogram::reset);
+        histograms.values().forEach(Histogram::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    @Override
+    public String exportTo(String file) throws IOException {
+        Path path = Path.of(file).toAbsolutePath();
+        writeTo(path);
+        return path.toString();
+    }
+
+    private static Map<String, Double> flatten(Map<String, HistogramSnapshot> snapshots) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        snapshots.forEach((name, snapshot) -> {
+            values.put(name + ".count", (double) snapshot.count());
+            values.put(name + ".mean", snapshot.mean());
+            values.put(name + ".p50", snapshot.p50());
+            values.put(name + ".p90", snapshot.p90());
+            values.put(name + ".p99", snapshot.p99());
+            values.put(name + ".p999", snapshot.p999());
+            values.put(name + ".max", snapshot.max());
+        });
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.metrics;
+
+import java.util.Map;
+
+/**
+ * État des mesures à un instant donné, triées par nom. Les minuteries sont en microsecondes,
+ * les histogrammes dans leur unité d'origine (octets pour {@code storage.save.bytes}).
+ */
+public record MetricsSnapshot(String takenAt,
+                              double uptimeSeconds,
+                              Map<String, HistogramSnapshot> timers,
+                              Map<String, HistogramSnapshot> histograms,
+                              Map<String, CounterValue> counters) {
+
+    /**
+     * Total depuis le démarrage et débit par seconde sur la dernière minute.
+     */
+    public record CounterValue(long count, double rate) {
+    }
+}
@@ -1,139 +1,375 @@
 package com.taskmanager.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.taskmanager.enums.Priority;
 import com.taskmanager.enums.Status;
+import com.taskmanager.util.DateFormats;
+import com.taskmanager.util.Today;
 import javafx.beans.property.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
+/**
+ * Tâche stockée sous forme compacte (ordinaux, jour epoch, secondes epoch).
+ * Les propriétés JavaFX ne sont créées qu'à la demande, typiquement pour les lignes affichées ;
+ * les changements sont signalés à un unique {@link TaskObserver} installé par le service.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class Task {
 
-    private IntegerProperty id;
-    private StringProperty title;
-    private StringProperty description;
-    private ObjectProperty<Priority> priority;
-    private ObjectProperty<Status> status;
-    private ObjectProperty<LocalDate> dueDate;
-    private ObjectProperty<LocalDateTime> createdAt;
-    private ObjectProperty<LocalDateTime> completedAt;
+    public static final int NO_DATE = Integer.MIN_VALUE;
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final byte NO_ORDINAL = -1;
+
+    private int id;
+    private String title;
+    private String description;
+    private byte priority;
+    private byte status;
+    private int dueEpochDay;
+    private long createdAt;
+    private long completedAt;
+
+    private TaskObserver observer;
+    private String dueDateText;
+    private String createdAtText;
+
+    private StringProperty titleProperty;
+    private StringProperty descriptionProperty;
+    private ObjectProperty<Priority> priorityProperty;
+    private ObjectProperty<Status> statusProperty;
+    private ObjectProperty<LocalDate> dueDateProperty;
+    private ObjectProperty<LocalDateTime> createdAtProperty;
+    private ObjectProperty<LocalDateTime> completedAtProperty;
 
     public Task() {
-        initializeProperties();
-        setDefaultValues();
+        this.id = 0;
+        this.title = "";
+        this.description = "";
+        this.priority = (byte) Priority.MEDIUM.ordinal();
+        this.status = (byte) Status.TODO.ordinal();
+        this.dueEpochDay = NO_DATE;
+        this.createdAt = toEpochSecond(LocalDateTime.now());
+        this.completedAt = NO_TIME;
     }
 
-
-    private void initializeProperties() {
-        this.id = new SimpleIntegerProperty();
-        this.title = new SimpleStringProperty();
-        this.description = new SimpleStringProperty();
-        this.priority = new SimpleObjectProperty<>();
-        this.status = new SimpleObjectProperty<>();
-        this.dueDate = new SimpleObjectProperty<>();
-        this.createdAt = new SimpleObjectProperty<>();
-        this.completedAt = new SimpleObjectProperty<>();
+    /**
+     * Recrée une tâche à partir de sa forme compacte, sans passer par les setters (lecture de snapshot).
+     */
+    public static Task restore(int id, String title, String description, Priority priority, Status status,
+                               int dueEpochDay, long createdEpochSecond, long completedEpochSecond) {
+        Task task = new Task(id);
+        task.title = title;
+        task.description = description;
+        task.priority = priority == null ? NO_ORDINAL : (byte) priority.ordinal();
+        task.status = status == null ? NO_ORDINAL : (byte) status.ordinal();
+        task.dueEpochDay = dueEpochDay;
+        task.createdAt = createdEpochSecond;
+        task.completedAt = completedEpochSecond;
+        return task;
     }
 
-    private void setDefaultValues() {
-        this.id.set(0);
-        this.title.set("");
-        this.description.set("");
-        this.priority.set(Priority.MEDIUM);
-        this.status.set(Status.TODO);
-        this.createdAt.set(LocalDateTime.now());
+    private Task(int id) {
+        this.id = id;
     }
 
     public int getId() {
-        return this.id.getValue();
+        return this.id;
     }
 
     public void setId(int id) {
-        this.id.setValue(id);
+        this.id = id;
     }
 
     public String getTitle() {
-        return this.title.getValue();
+        return this.title;
     }
 
     public void setTitle(String title) {
-        this.title.setValue(title);
+        if (titleProperty != null) {
+            titleProperty.set(title);
+        } else {
+            applyTitle(title);
+        }
+    }
+
+    public StringProperty titleProperty() {
+        if (titleProperty == null) {
+            titleProperty = new SimpleStringProperty(this, "title", title) {
+                @Override
+                protected void invalidated() {
+                    applyTitle(get());
+                }
+            };
+        }
+        return titleProperty;
     }
 
     public String getDescription() {
-        return this.description.getValue();
+        return this.description;
     }
 
     public void setDescription(String description) {
-        this.description.setValue(description);
+        if (descriptionProperty != null) {
+            descriptionProperty.set(description);
+        } else {
+            applyDescription(description);
+        }
+    }
+
+    public StringProperty descriptionProperty() {
+        if (descriptionProperty == null) {
+            descriptionProperty = new SimpleStringProperty(this, "description", description) {
+                @Override
+                protected void invalidated() {
+                    applyDescription(get());
+                }
+            };
+        }
+        return descriptionProperty;
     }
 
     public Priority getPriority() {
-        return this.priority.getValue();
+        return priority == NO_ORDINAL ? null : PRIORITIES[priority];
     }
 
     public void setPriority(Priority priority) {
-        this.priority.setValue(priority);
+        if (priorityProperty != null) {
+            priorityProperty.set(priority);
+        } else {
+            applyPriority(priority);
+        }
+    }
+
+    public ObjectProperty<Priority> priorityProperty() {
+        if (priorityProperty == null) {
+            priorityProperty = new SimpleObjectProperty<>(this, "priority", getPriority()) {
+                @Override
+                protected void invalidated() {
+                    applyPriority(get());
+                }
+            };
+        }
+        return priorityProperty;
     }
 
     public Status getStatus() {
-        return this.status.getValue();
+        return status == NO_ORDINAL ? null : STATUSES[status];
     }
 
     public void setStatus(Status status) {
-        Status oldStatus = this.status.getValue();
-        this.status.setValue(status);
+        if (statusProperty != null) {
+            statusProperty.set(status);
+        } else {
+            applyStatus(status);
+        }
+    }
 
-        if (status == Status.COMPLETED && oldStatus != Status.COMPLETED) {
-            this.completedAt.setValue(LocalDateTime.now());
-        } else if (status != Status.COMPLETED) {
-            this.completedAt.setValue(null);
+    public ObjectProperty<Status> statusProperty() {
+        if (statusProperty == null) {
+            statusProperty = new SimpleObjectProperty<>(this, "status", getStatus()) {
+                @Override
+                protected void invalidated() {
+                    applyStatus(get());
+                }
+            };
         }
+        return statusProperty;
     }
 
     public LocalDate getDueDate() {
-        return this.dueDate.getValue();
+        return dueEpochDay == NO_DATE ? null : LocalDate.ofEpochDay(dueEpochDay);
+    }
+
+    @JsonIgnore
+    public int getDueEpochDay() {
+        return dueEpochDay;
     }
 
     public void setDueDate(LocalDate dueDate) {
-        this.dueDate.setValue(dueDate);
+        if (dueDateProperty != null) {
+            dueDateProperty.set(dueDate);
+        } else {
+            applyDueDate(dueDate);
+        }
+    }
+
+    public ObjectProperty<LocalDate> dueDateProperty() {
+        if (dueDateProperty == null) {
+            dueDateProperty = new SimpleObjectProperty<>(this, "dueDate", getDueDate()) {
+                @Override
+                protected void invalidated() {
+                    applyDueDate(get());
+                }
+            };
+        }
+        return dueDateProperty;
     }
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     public LocalDateTime getCreatedAt() {
-        return this.createdAt.getValue();
+        return fromEpochSecond(createdAt);
+    }
+
+    @JsonIgnore
+    public long getCreatedEpochSecond() {
+        return createdAt;
     }
 
     public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt.setValue(createdAt);
+        if (createdAtProperty != null) {
+            createdAtProperty.set(createdAt);
+        } else {
+            applyCreatedAt(createdAt);
+        }
+    }
+
+    public ObjectProperty<LocalDateTime> createdAtProperty() {
+        if (createdAtProperty == null) {
+            createdAtProperty = new SimpleObjectProperty<>(this, "createdAt", getCreatedAt()) {
+                @Override
+                protected void invalidated() {
+                    applyCreatedAt(get());
+                }
+            };
+        }
+        return createdAtProperty;
     }
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     public LocalDateTime getCompletedAt() {
-        return this.completedAt.getValue();
+        return fromEpochSecond(completedAt);
+    }
+
+    @JsonIgnore
+    public long getCompletedEpochSecond() {
+        return completedAt;
     }
 
     public void setCompletedAt(LocalDateTime completedAt) {
-        this.completedAt.setValue(completedAt);
+        if (completedAtProperty != null) {
+            completedAtProperty.set(completedAt);
+        } else {
+            applyCompletedAt(completedAt);
+        }
+    }
+
+    public ObjectProperty<LocalDateTime> completedAtProperty() {
+        if (completedAtProperty == null) {
+            completedAtProperty = new SimpleObjectProperty<>(this, "completedAt", getCompletedAt()) {
+                @Override
+                protected void invalidated() {
+                    applyCompletedAt(get());
+                }
+            };
+        }
+        return completedAtProperty;
+    }
+
+    @JsonIgnore
+    public String getDueDateText() {
+        if (dueDateText == null) {
+            dueDateText = (dueEpochDay == NO_DATE) ? "" : DateFormats.DATE.format(getDueDate());
+        }
+        return dueDateText;
+    }
+
+    @JsonIgnore
+    public String getCreatedAtText() {
+        if (createdAtText == null) {
+            createdAtText = (createdAt == NO_TIME) ? "" : DateFormats.DATE_TIME.format(getCreatedAt());
+        }
+        return createdAtText;
+    }
+
+    @JsonIgnore
+    public void setObserver(TaskObserver observer) {
+        this.observer = observer;
     }
 
     public boolean isOverdue() {
-        LocalDate due = getDueDate();
-        if (due == null) return false;
+        if (dueEpochDay == NO_DATE) return false;
         if (getStatus() == Status.COMPLETED) return false;
 
-        LocalDate today = LocalDate.now();
-        return due.isBefore(today);
+        return dueEpochDay < Today.epochDay();
     }
 
     public boolean isDueToday() {
-        LocalDate due = getDueDate();
-        if (due == null) return false;
+        if (dueEpochDay == NO_DATE) return false;
         if (getStatus() == Status.COMPLETED) return false;
 
-        LocalDate today = LocalDate.now();
-        return due.isEqual(today);
+        return dueEpochDay == Today.epochDay();
+    }
+
+    private void applyTitle(String newTitle) {
+        String oldTitle = this.title;
+        this.title = newTitle;
+        fireChanged(TaskField.TITLE, oldTitle, newTitle);
+    }
+
+    private void applyDescription(String newDescription) {
+        String oldDescription = this.description;
+        this.description = newDescription;
+        fireChanged(TaskField.DESCRIPTION, oldDescription, newDescription);
+    }
+
+    private void applyPriority(Priority newPriority) {
+        Priority oldPriority = getPriority();
+        this.priority = newPriority == null ? NO_ORDINAL : (byte) newPriority.ordinal();
+        fireChanged(TaskField.PRIORITY, oldPriority, newPriority);
+    }
+
+    private void applyStatus(Status newStatus) {
+        Status oldStatus = getStatus();
+        this.status = newStatus == null ? NO_ORDINAL : (byte) newStatus.ordinal();
+        fireChanged(TaskField.STATUS, oldStatus, newStatus);
+
+        if (newStatus == Status.COMPLETED && oldStatus != Status.COMPLETED) {
+            setCompletedAt(LocalDateTime.now());
+        } else if (newStatus != Status.COMPLETED) {
+            setCompletedAt(null);
+        }
+    }
+
+    private void applyDueDate(LocalDate newDueDate) {
+        LocalDate oldDueDate = getDueDate();
+        this.dueEpochDay = newDueDate == null ? NO_DATE : (int) newDueDate.toEpochDay();
+        this.dueDateText = null;
+        fireChanged(TaskField.DUE_DATE, oldDueDate, newDueDate);
+    }
+
+    private void applyCreatedAt(LocalDateTime newCreatedAt) {
+        LocalDateTime oldCreatedAt = getCreatedAt();
+        this.createdAt = toEpochSecond(newCreatedAt);
+        this.createdAtText = null;
+        fireChanged(TaskField.CREATED_AT, oldCreatedAt, newCreatedAt);
+    }
+
+    private void applyCompletedAt(LocalDateTime newCompletedAt) {
+        LocalDateTime oldCompletedAt = getCompletedAt();
+        this.completedAt = toEpochSecond(newCompletedAt);
+        fireChanged(TaskField.COMPLETED_AT, oldCompletedAt, newCompletedAt);
+    }
+
+    private void fireChanged(TaskField field, Object oldValue, Object newValue) {
+        if (observer != null && !Objects.equals(oldValue, newValue)) {
+            observer.taskChanged(this, field, oldValue, newValue);
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? NO_TIME : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpochSecond(long epochSecond) {
+        return epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
     }
 
     @Override
@@ -159,24 +395,40 @@ public class Task {
         if (getClass() != obj.getClass()) return false;
 
         Task other = (Task) obj;
-        return Objects.equals(this.getId(), other.getId());
+        return this.id == other.id;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId());
+        return Integer.hashCode(id);
+    }
+
+    /**
+     * Recopie les champs modifiables de {@code source} par les setters : l'observateur reçoit un changement
+     * par champ réellement modifié. Le statut passe avant la date de fin, qu'il recalcule.
+     */
+    public void updateFrom(Task source) {
+        setTitle(source.getTitle());
+        setDescription(source.getDescription());
+        setPriority(source.getPriority());
+        setDueDate(source.getDueDate());
+        setCreatedAt(source.getCreatedAt());
+        setStatus(source.getStatus());
+        setCompletedAt(source.getCompletedAt());
     }
 
     public Task clone() {
         Task copy = new Task();
-        copy.setId(this.getId());
-        copy.setTitle(this.getTitle());
-        copy.setDescription(this.getDescription());
-        copy.setPriority(this.getPriority());
-        copy.setStatus(this.getStatus());
-        copy.setDueDate(this.getDueDate());
-        copy.setCreatedAt(this.getCreatedAt());
-        copy.setCompletedAt(this.getCompletedAt());
+        copy.id = this.id;
+        copy.title = this.title;
+        copy.description = this.description;
+        copy.priority = this.priority;
+        copy.status = this.status;
+        copy.dueEpochDay = this.dueEpochDay;
+        copy.dueDateText = this.dueDateText;
+        copy.createdAt = this.createdAt;
+        copy.createdAtText = this.createdAtText;
+        copy.completedAt = this.completedAt;
         return copy;
     }
-}
\ No newline at end of file
+}
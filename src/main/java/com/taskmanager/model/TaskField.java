@@ -0,0 +1,11 @@
+package com.taskmanager.model;
+
+public enum TaskField {
+    TITLE,
+    DESCRIPTION,
+    PRIORITY,
+    STATUS,
+    DUE_DATE,
+    CREATED_AT,
+    COMPLETED_AT
+}
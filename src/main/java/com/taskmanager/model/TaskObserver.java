@@ -0,0 +1,7 @@
+package com.taskmanager.model;
+
+@FunctionalInterface
+public interface TaskObserver {
+
+    void taskChanged(Task task, TaskField field, Object oldValue, Object newValue);
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.model;
+
+/**
+ * Règles de saisie d'une tâche, communes au formulaire et à l'import.
+ */
+public final class TaskValidation {
+
+    public static final int MAX_TITLE_LENGTH = 100;
+    public static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    private TaskValidation() {
+    }
+
+    public static boolean isTitlePresent(String title) {
+        return title != null && !title.trim().isEmpty();
+    }
+
+    public static boolean isTitleLengthValid(String title) {
+        return isTitlePresent(title) && title.trim().length() <= MAX_TITLE_LENGTH;
+    }
+
+    public static boolean isDescriptionValid(String description) {
+        return description == null || description.trim().length() <= MAX_DESCRIPTION_LENGTH;
+    }
+
+    public static boolean isValid(Task task) {
+        return task != null && isTitleLengthValid(task.getTitle()) && isDescriptionValid(task.getDescription());
+    }
+}
@@ -0,0 +1,217 @@
+package com.taskmanager.persistence;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot binaire versionné, lu par projection mémoire ({@link FileChannel#map}).
+ * <pre>
+ * en-tête   (32 octets) : magic, version, taille d'enregistrement, nb tâches, nb chaînes,
+ *                         position de l'index des chaînes, position des données des chaînes
+ * tâches    (40 octets chacune) : id, priorité, statut, échéance, réf. titre, réf. description,
+ *                                 création, fin
+ * index     (nb chaînes + 1 entiers) : début de chaque chaîne dans les données
+ * données   : chaînes UTF-8 dédupliquées, bout à bout
+ * </pre>
+ * Chaque tâche est à une position fixe : une page peut être décodée sans lire le reste du fichier.
+ */
+public final class BinaryTaskSnapshot {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x544D534E;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 40;
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private final ByteBuffer buffer;
+    private final int taskCount;
+    private final int stringCount;
+    private final int stringIndexOffset;
+    private final int stringDataOffset;
+    private final String[] strings;
+
+    private BinaryTaskSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Snapshot binaire invalide");
+        }
+        int version = buffer.getShort(4);
+        if (version != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IOException("Version de snapshot non supportée: " + version);
+        }
+        this.taskCount = buffer.getInt(8);
+        this.stringCount = buffer.getInt(12);
+        this.stringIndexOffset = (int) buffer.getLong(16);
+        this.stringDataOffset = (int) buffer.getLong(24);
+        this.strings = new String[stringCount];
+    }
+
+    public static BinaryTaskSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BinaryTaskSnapshot(buffer);
+        }
+    }
+
+    public int size() {
+        return taskCount;
+    }
+
+    public Task get(int index) {
+        if (index < 0 || index >= taskCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        int position = HEADER_SIZE + index * RECORD_SIZE;
+        byte priority = buffer.get(position + 4);
+        byte status = buffer.get(position + 5);
+        return Task.restore(
+                buffer.getInt(position),
+                string(buffer.getInt(position + 12)),
+                string(buffer.getInt(position + 16)),
+                priority < 0 ? null : PRIORITIES[priority],
+                status < 0 ? null : STATUSES[status],
+                buffer.getInt(position + 8),
+                buffer.getLong(position + 24),
+                buffer.getLong(position + 32));
+    }
+
+    public int idAt(int index) {
+        if (index < 0 || index >= taskCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return buffer.getInt(HEADER_SIZE + index * RECORD_SIZE);
+    }
+
+    /**
+     * Position de la tâche {@code id} par recherche dichotomique (le fichier est trié par id),
+     * ou {@code -(point d'insertion) - 1} comme {@link java.util.Arrays#binarySearch}.
+     */
+    public int indexOf(int id) {
+        int low = 0;
+        int high = taskCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = idAt(middle);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    public List<Task> range(int offset, int limit) {
+        int end = (int) Math.min(taskCount, (long) offset + limit);
+        List<Task> tasks = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            tasks.add(get(i));
+        }
+        return tasks;
+    }
+
+    public void readAll(int batchSize, Consumer<List<Task>> batchConsumer) {
+        for (int offset = 0; offset < taskCount; offset += batchSize) {
+            batchConsumer.accept(range(offset, batchSize));
+        }
+    }
+
+    public static void write(Path file, Collection<Task> tasks) throws IOException {
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<byte[]> stringBytes = new ArrayList<>();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(RECORD_SIZE);
+            out.writeInt(tasks.size());
+            out.writeInt(0);
+            out.writeLong(0);
+            out.writeLong(0);
+
+            for (Task task : tasks) {
+                out.writeInt(task.getId());
+                out.writeByte(task.getPriority() == null ? -1 : task.getPriority().ordinal());
+                out.writeByte(task.getStatus() == null ? -1 : task.getStatus().ordinal());
+                out.writeShort(0);
+                out.writeInt(task.getDueEpochDay());
+                out.writeInt(internString(task.getTitle(), stringIds, stringBytes));
+                out.writeInt(internString(task.getDescription(), stringIds, stringBytes));
+                out.writeInt(0);
+                out.writeLong(task.getCreatedEpochSecond());
+                out.writeLong(task.getCompletedEpochSecond());
+            }
+
+            int dataPosition = 0;
+            for (byte[] bytes : stringBytes) {
+                out.writeInt(dataPosition);
+                dataPosition += bytes.length;
+            }
+            out.writeInt(dataPosition);
+
+            for (byte[] bytes : stringBytes) {
+                out.write(bytes);
+            }
+        }
+
+        long stringIndexOffset = HEADER_SIZE + (long) tasks.size() * RECORD_SIZE;
+        long stringDataOffset = stringIndexOffset + 4L * (stringBytes.size() + 1);
+        if (stringDataOffset > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot trop volumineux");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(20);
+            header.putInt(stringBytes.size());
+            header.putLong(stringIndexOffset);
+            header.putLong(stringDataOffset);
+            header.flip();
+            channel.write(header, 12);
+        }
+    }
+
+    private String string(int stringId) {
+        if (stringId < 0) return null;
+
+        String value = strings[stringId];
+        if (value == null) {
+            int start = buffer.getInt(stringIndexOffset + stringId * 4);
+            int end = buffer.getInt(stringIndexOffset + (stringId + 1) * 4);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringDataOffset + start, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[stringId] = value;
+        }
+        return value;
+    }
+
+    private static int internString(String value, Map<String, Integer> stringIds, List<byte[]> stringBytes) {
+        if (value == null) return -1;
+
+        return stringIds.computeIfAbsent(value, key -> {
+            stringBytes.add(key.getBytes(StandardCharsets.UTF_8));
+            return stringBytes.size() - 1;
+        });
+    }
+}
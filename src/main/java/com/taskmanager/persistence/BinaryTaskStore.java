@@ -0,0 +1,201 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot binaire ({@link BinaryTaskSnapshot}) + journal JSON.
+ * Les lectures par position et par id se font directement dans le fichier projeté en mémoire, sans décoder
+ * les autres tâches ; les mutations du journal pas encore fusionnées y sont superposées en mémoire
+ * ({@link OverlaidSnapshot}), relues seulement quand les fichiers changent.
+ * <p>
+ * Un fichier projeté ne peut pas être remplacé sous Windows, et Java ne sait pas libérer une projection :
+ * chaque compaction écrit donc un nouveau fichier numéroté ({@code tasks.bin.1}, {@code tasks.bin.2}, ...),
+ * le plus grand numéro étant le snapshot en vigueur ({@code tasks.bin} compte pour 0). Les versions
+ * précédentes sont supprimées dès que possible, au plus tard à l'ouverture suivante.
+ */
+public class BinaryTaskStore extends JsonTaskStore {
+
+    private static final int READ_BATCH_SIZE = 1000;
+
+    private volatile MappedSnapshot mapped;
+    private volatile CachedView view;
+    private volatile Path current;
+
+    public BinaryTaskStore(Path snapshotFile, ObjectMapper jsonMapper) {
+        super(snapshotFile, jsonMapper);
+    }
+
+    static boolean storeExists(Path snapshotFile) throws IOException {
+        return JsonTaskStore.exists(snapshotFile) || !versions(snapshotFile).isEmpty();
+    }
+
+    @Override
+    public List<Task> load() throws IOException {
+        deletePreviousSnapshots(currentSnapshotFile());
+        return super.load();
+    }
+
+    @Override
+    public int count() throws IOException {
+        return currentView().size();
+    }
+
+    @Override
+    public int maxId() throws IOException {
+        return currentView().maxId();
+    }
+
+    @Override
+    public Optional<Task> findById(int id) throws IOException {
+        return Optional.ofNullable(currentView().findById(id));
+    }
+
+    @Override
+    public List<Task> loadPage(int afterId, int limit) throws IOException {
+        OverlaidSnapshot current = currentView();
+        return current.range(current.rank(afterId), limit);
+    }
+
+    @Override
+    public List<Task> loadRange(int offset, int limit) throws IOException {
+        return currentView().range(offset, limit);
+    }
+
+    @Override
+    public List<Task> readAll() throws IOException {
+        OverlaidSnapshot current = currentView();
+        return current.range(0, current.size());
+    }
+
+    @Override
+    protected void readSnapshotFile(Path file, Consumer<List<Task>> batchConsumer) throws IOException {
+        BinaryTaskSnapshot.open(file).readAll(READ_BATCH_SIZE, batchConsumer);
+    }
+
+    @Override
+    protected void writeSnapshotFile(Path file, Collection<Task> tasks) throws IOException {
+        List<Task> sorted = new ArrayList<>(tasks);
+        sorted.sort(Comparator.comparingInt(Task::getId));
+        BinaryTaskSnapshot.write(file, sorted);
+    }
+
+    @Override
+    protected Path currentSnapshotFile() throws IOException {
+        Path file = current;
+        if (file == null) {
+            TreeMap<Integer, Path> versions = versions(getSnapshotFile());
+            file = versions.isEmpty() ? getSnapshotFile() : versions.lastEntry().getValue();
+            current = file;
+        }
+        return file;
+    }
+
+    /**
+     * Le nouveau snapshot prend le numéro suivant au lieu de remplacer le fichier projeté.
+     */
+    @Override
+    protected void installSnapshot(Path tempFile) throws IOException {
+        TreeMap<Integer, Path> versions = versions(getSnapshotFile());
+        int next = versions.isEmpty() ? 1 : versions.lastKey() + 1;
+        Path file = versionFile(getSnapshotFile(), next);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file);
+        }
+        current = file;
+        deletePreviousSnapshots(file);
+    }
+
+    /**
+     * Vue reconstruite quand les fichiers ont changé (ajout au journal, rotation, compaction) :
+     * seul le journal, borné par la compaction, est relu ; le snapshot n'est reprojeté que s'il a été remplacé.
+     */
+    private OverlaidSnapshot currentView() throws IOException {
+        CachedView cached = view;
+        if (cached != null && cached.generation() == generation()) {
+            return cached.view();
+        }
+
+        return readFiles(() -> {
+            List<JournalRecord> pending = new ArrayList<>();
+            replayPendingJournal(pending::add);
+            OverlaidSnapshot current = OverlaidSnapshot.of(mappedSnapshot(), pending);
+            view = new CachedView(generation(), current);
+            return current;
+        });
+    }
+
+    /**
+     * Un fichier de snapshot n'est jamais réécrit une fois en place : son chemin suffit à savoir s'il est déjà projeté.
+     */
+    private BinaryTaskSnapshot mappedSnapshot() throws IOException {
+        Path file = currentSnapshotFile();
+        if (!Files.exists(file)) return null;
+
+        MappedSnapshot snapshot = mapped;
+        if (snapshot == null || !snapshot.file().equals(file)) {
+            snapshot = new MappedSnapshot(BinaryTaskSnapshot.open(file), file);
+            mapped = snapshot;
+        }
+        return snapshot.snapshot();
+    }
+
+    /**
+     * Supprime les snapshots antérieurs à {@code file}. Une version encore projetée (sous Windows) reste en place
+     * jusqu'à l'ouverture suivante ; elle est ignorée d'ici là puisque son numéro est plus petit.
+     */
+    private void deletePreviousSnapshots(Path file) throws IOException {
+        List<Path> previous = new ArrayList<>(versions(getSnapshotFile()).values());
+        previous.add(getSnapshotFile());
+        for (Path candidate : previous) {
+            if (candidate.equals(file)) continue;
+            try {
+                Files.deleteIfExists(candidate);
+            } catch (IOException e) {
+                System.err.println("Ancien snapshot non supprimé: " + candidate.getFileName());
+            }
+        }
+    }
+
+    private static TreeMap<Integer, Path> versions(Path snapshotFile) throws IOException {
+        TreeMap<Integer, Path> versions = new TreeMap<>();
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        String prefix = snapshotFile.getFileName() + ".";
+        if (!Files.isDirectory(directory)) return versions;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.length() < 10 && suffix.chars().allMatch(Character::isDigit)) {
+                    versions.put(Integer.parseInt(suffix), snapshotFile.resolveSibling(file.getFileName()));
+                }
+            }
+        }
+        return versions;
+    }
+
+    private static Path versionFile(Path snapshotFile, int version) {
+        return snapshotFile.resolveSibling(snapshotFile.getFileName() + "." + version);
+    }
+
+    private record MappedSnapshot(BinaryTaskSnapshot snapshot, Path file) {
+    }
+
+    private record CachedView(long generation, OverlaidSnapshot view) {
+    }
+}
@@ -0,0 +1,286 @@
+package com.taskmanager.persistence;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stockage dans une base H2 embarquée, en un seul fichier ({@code <nom>.mv.db}).
+ * Chaque lot est une transaction ; une mise à jour ne réécrit que les lignes concernées.
+ * Le statut, l'échéance et la date de création sont indexés pour les lectures paginées.
+ */
+public class H2TaskRepository implements TaskRepository {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String COLUMNS = "id, title, description, priority, status, due_day, created_at, completed_at";
+
+    private final Connection connection;
+
+    public H2TaskRepository(Path databaseFile) throws IOException {
+        try {
+            String url = "jdbc:h2:file:" + databaseFile.toAbsolutePath();
+            this.connection = DriverManager.getConnection(url, "sa", "");
+            createSchema();
+        } catch (SQLException e) {
+            throw new IOException("Ouverture de la base impossible: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized List<Task> load() throws IOException {
+        return query("SELECT " + COLUMNS + " FROM tasks ORDER BY id", statement -> {});
+    }
+
+    @Override
+    public synchronized void apply(List<JournalRecord> records) throws IOException {
+        if (records.isEmpty()) return;
+
+        try (PreparedStatement merge = connection.prepareStatement(
+                     "MERGE INTO tasks (" + COLUMNS + ") KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM tasks WHERE id = ?");
+             Statement clear = connection.createStatement()) {
+            connection.setAutoCommit(false);
+
+            JournalRecord.Operation batched = null;
+            int batchSize = 0;
+            for (JournalRecord record : records) {
+                if (batched != null && (batched != record.op() || batchSize == BATCH_SIZE)) {
+                    executeBatch(batched == JournalRecord.Operation.PUT ? merge : delete);
+                    batched = null;
+                    batchSize = 0;
+                }
+                switch (record.op()) {
+                    case CLEAR:
+                        // Pas de TRUNCATE : H2 le valide aussitôt, un échec du lot laisserait la table vide.
+                        clear.executeUpdate("DELETE FROM tasks");
+                        break;
+                    case DELETE:
+                        delete.setInt(1, record.id());
+                        delete.addBatch();
+                        batched = JournalRecord.Operation.DELETE;
+                        batchSize++;
+                        break;
+                    case PUT:
+                        bind(merge, record.task());
+                        merge.addBatch();
+                        batched = JournalRecord.Operation.PUT;
+                        batchSize++;
+                        break;
+                }
+            }
+            if (batched != null) {
+                executeBatch(batched == JournalRecord.Operation.PUT ? merge : delete);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            throw new IOException("Erreur écriture base: " + e.getMessage(), e);
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    @Override
+    public synchronized int count() throws IOException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM tasks")) {
+            result.next();
+            return result.getInt(1);
+        } catch (SQLException e) {
+            throw new IOException("Erreur lecture base: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized int maxId() throws IOException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM tasks")) {
+            result.next();
+            return result.getInt(1);
+        } catch (SQLException e) {
+            throw new IOException("Erreur lecture base: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<Task> findById(int id) throws IOException {
+        List<Task> tasks = query("SELECT " + COLUMNS + " FROM tasks WHERE id = ?", statement -> statement.setInt(1, id));
+        return tasks.isEmpty() ? Optional.empty() : Optional.of(tasks.get(0));
+    }
+
+    @Override
+    public synchronized List<Task> loadPage(int afterId, int limit) throws IOException {
+        return query("SELECT " + COLUMNS + " FROM tasks WHERE id > ? ORDER BY id LIMIT ?", statement -> {
+            statement.setInt(1, afterId);
+            statement.setInt(2, limit);
+        });
+    }
+
+    @Override
+    public synchronized List<Task> loadRange(int offset, int limit) throws IOException {
+        return query("SELECT " + COLUMNS + " FROM tasks ORDER BY id LIMIT ? OFFSET ?", statement -> {
+            statement.setInt(1, limit);
+            statement.setInt(2, offset);
+        });
+    }
+
+    @Override
+    public synchronized List<Task> findByStatus(Status status, int afterId, int limit) throws IOException {
+        return query("SELECT " + COLUMNS + " FROM tasks WHERE status = ? AND id > ? ORDER BY id LIMIT ?", statement -> {
+            statement.setInt(1, status.ordinal());
+            statement.setInt(2, afterId);
+            statement.setInt(3, limit);
+        });
+    }
+
+    @Override
+    public synchronized List<Task> findDueBetween(LocalDate from, LocalDate to, int afterId, int limit) throws IOException {
+        return query("SELECT " + COLUMNS + " FROM tasks WHERE due_day BETWEEN ? AND ? AND id > ? ORDER BY id LIMIT ?", statement -> {
+            statement.setInt(1, (int) from.toEpochDay());
+            statement.setInt(2, (int) to.toEpochDay());
+            statement.setInt(3, afterId);
+            statement.setInt(4, limit);
+        });
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Erreur fermeture base: " + e.getMessage(), e);
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS tasks ("
+                    + "id INT PRIMARY KEY, "
+                    + "title VARCHAR NOT NULL, "
+                    + "description VARCHAR NOT NULL, "
+                    + "priority TINYINT, "
+                    + "status TINYINT, "
+                    + "due_day INT, "
+                    + "created_at BIGINT, "
+                    + "completed_at BIGINT)");
+            statement.execute("CREATE INDEX IF NOT EXISTS tasks_status ON tasks (status, id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS tasks_due_day ON tasks (due_day, id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS tasks_created_at ON tasks (created_at, id)");
+        }
+    }
+
+    private static void executeBatch(PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        statement.clearBatch();
+    }
+
+    private List<Task> query(String sql, StatementBinder binder) throws IOException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            binder.bind(statement);
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet result = statement.executeQuery()) {
+                List<Task> tasks = new ArrayList<>();
+                while (result.next()) {
+                    tasks.add(read(result));
+                }
+                return tasks;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Erreur lecture base: " + e.getMessage(), e);
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Task task) throws SQLException {
+        statement.setInt(1, task.getId());
+        statement.setString(2, task.getTitle() == null ? "" : task.getTitle());
+        statement.setString(3, task.getDescription() == null ? "" : task.getDescription());
+        setOrdinal(statement, 4, task.getPriority());
+        setOrdinal(statement, 5, task.getStatus());
+        if (task.getDueEpochDay() == Task.NO_DATE) {
+            statement.setNull(6, Types.INTEGER);
+        } else {
+            statement.setInt(6, task.getDueEpochDay());
+        }
+        setEpochSecond(statement, 7, task.getCreatedAt());
+        setEpochSecond(statement, 8, task.getCompletedAt());
+    }
+
+    private static Task read(ResultSet result) throws SQLException {
+        Task task = new Task();
+        task.setId(result.getInt(1));
+        task.setTitle(result.getString(2));
+        task.setDescription(result.getString(3));
+
+        int priority = result.getInt(4);
+        task.setPriority(result.wasNull() ? null : PRIORITIES[priority]);
+        int status = result.getInt(5);
+        task.setStatus(result.wasNull() ? null : STATUSES[status]);
+
+        int dueDay = result.getInt(6);
+        task.setDueDate(result.wasNull() ? null : LocalDate.ofEpochDay(dueDay));
+        task.setCreatedAt(getDateTime(result, 7));
+        task.setCompletedAt(getDateTime(result, 8));
+        return task;
+    }
+
+    private static void setOrdinal(PreparedStatement statement, int index, Enum<?> value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.TINYINT);
+        } else {
+            statement.setByte(index, (byte) value.ordinal());
+        }
+    }
+
+    private static void setEpochSecond(PreparedStatement statement, int index, LocalDateTime dateTime) throws SQLException {
+        if (dateTime == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, dateTime.toEpochSecond(ZoneOffset.UTC));
+        }
+    }
+
+    private static LocalDateTime getDateTime(ResultSet result, int index) throws SQLException {
+        long epochSecond = result.getLong(index);
+        return result.wasNull() ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            System.err.println("Erreur annulation transaction: " + e.getMessage());
+        }
+    }
+
+    private void restoreAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            System.err.println("Erreur base: " + e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+}
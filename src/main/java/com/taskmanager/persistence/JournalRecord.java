@@ -0,0 +1,26 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanager.model.Task;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JournalRecord(Operation op, Integer id, Task task) {
+
+    public enum Operation {
+        PUT,
+        DELETE,
+        CLEAR
+    }
+
+    public static JournalRecord put(Task task) {
+        return new JournalRecord(Operation.PUT, null, task);
+    }
+
+    public static JournalRecord delete(int id) {
+        return new JournalRecord(Operation.DELETE, id, null);
+    }
+
+    public static JournalRecord clear() {
+        return new JournalRecord(Operation.CLEAR, null, null);
+    }
+}
@@ -0,0 +1,347 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Persistance par snapshot JSON + journal.
+ * Chaque mutation ajoute une entrée au journal ; au-delà de {@link #COMPACTION_THRESHOLD}
+ * entrées, le journal est mis de côté puis fusionné dans le snapshot en arrière-plan.
+ * Le rejeu est idempotent, un segment fusionné mais non supprimé peut donc être rejoué sans risque.
+ * Les lectures paginées relisent le fichier : ce format convient aux volumes modestes et à l'échange.
+ * Elles peuvent venir de n'importe quel thread : ajouts, rotation du journal et remplacement du snapshot
+ * prennent le verrou des fichiers en écriture, une lecture voit donc toujours un ensemble de fichiers cohérent.
+ * Le format du snapshot est défini par {@link #readSnapshotFile} et {@link #writeSnapshotFile}.
+ */
+public class JsonTaskStore implements TaskRepository {
+
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Path compactingFile;
+    private final ObjectMapper jsonMapper;
+    private final TaskJsonReader jsonReader;
+    private final TaskJsonWriter jsonWriter;
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compacting;
+    private final AtomicLong bytesWritten;
+    private final ReentrantReadWriteLock files;
+    private volatile long generation;
+    private TaskJournal journal;
+
+    public JsonTaskStore(Path snapshotFile, ObjectMapper jsonMapper) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".journal");
+        this.compactingFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".journal.compacting");
+        this.jsonMapper = jsonMapper;
+        this.jsonReader = new TaskJsonReader(jsonMapper);
+        this.jsonWriter = new TaskJsonWriter(jsonMapper);
+        this.compacting = new AtomicBoolean(false);
+        this.bytesWritten = new AtomicLong();
+        this.files = new ReentrantReadWriteLock();
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static boolean exists(Path snapshotFile) {
+        return Files.exists(snapshotFile)
+                || Files.exists(snapshotFile.resolveSibling(snapshotFile.getFileName() + ".journal"))
+                || Files.exists(snapshotFile.resolveSibling(snapshotFile.getFileName() + ".journal.compacting"));
+    }
+
+    /**
+     * Chargement initial : ouvre aussi le journal en écriture. Pour relire le stockage en cours d'utilisation,
+     * {@link #readAll} ne touche pas à l'état d'écriture.
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        files.writeLock().lock();
+        try {
+            LinkedHashMap<Integer, Task> state = readSnapshot();
+            TaskJournal.replay(compactingFile, jsonMapper, record -> apply(state, record));
+            int pending = TaskJournal.replay(journalFile, jsonMapper, record -> apply(state, record));
+
+            if (journal != null) {
+                journal.close();
+            }
+            journal = new TaskJournal(journalFile, jsonMapper, pending);
+            generation++;
+            if (Files.exists(compactingFile) || pending >= COMPACTION_THRESHOLD) {
+                scheduleCompaction();
+            }
+            return new ArrayList<>(state.values());
+        } finally {
+            files.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> readAll() throws IOException {
+        List<Task> tasks = new ArrayList<>(readState().values());
+        tasks.sort(Comparator.comparingInt(Task::getId));
+        return tasks;
+    }
+
+    @Override
+    public void apply(List<JournalRecord> records) throws IOException {
+        if (records.isEmpty()) return;
+
+        files.writeLock().lock();
+        try {
+            if (journal == null) {
+                journal = new TaskJournal(journalFile, jsonMapper, 0);
+            }
+            bytesWritten.addAndGet(journal.append(records));
+            generation++;
+
+            if (journal.getRecordCount() >= COMPACTION_THRESHOLD) {
+                scheduleCompaction();
+            }
+        } finally {
+            files.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() throws IOException {
+        return readState().size();
+    }
+
+    @Override
+    public int maxId() throws IOException {
+        return readState().keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    @Override
+    public Optional<Task> findById(int id) throws IOException {
+        return Optional.ofNullable(readState().get(id));
+    }
+
+    @Override
+    public List<Task> loadPage(int afterId, int limit) throws IOException {
+        return page(task -> true, afterId, limit);
+    }
+
+    @Override
+    public List<Task> loadRange(int offset, int limit) throws IOException {
+        return readState().values().stream()
+                .sorted(Comparator.comparingInt(Task::getId))
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Task> findByStatus(Status status, int afterId, int limit) throws IOException {
+        return page(task -> task.getStatus() == status, afterId, limit);
+    }
+
+    @Override
+    public List<Task> findDueBetween(LocalDate from, LocalDate to, int afterId, int limit) throws IOException {
+        return page(task -> task.getDueDate() != null
+                && !task.getDueDate().isBefore(from) && !task.getDueDate().isAfter(to), afterId, limit);
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactionExecutor.shutdown();
+        try {
+            compactionExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        files.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+        } finally {
+            files.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appelé sous le verrou des fichiers en écriture.
+     */
+    private void scheduleCompaction() {
+        if (!compacting.compareAndSet(false, true)) return;
+
+        try {
+            if (!Files.exists(compactingFile)) {
+                journal.rotate(compactingFile);
+                generation++;
+            }
+            compactionExecutor.execute(this::compact);
+        } catch (IOException e) {
+            compacting.set(false);
+            System.err.println("Erreur rotation du journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Seule la compaction modifie le snapshot et le segment mis de côté, et aucune rotation n'a lieu pendant
+     * qu'elle tourne : elle les lit sans verrou. Le nouveau snapshot est écrit à côté, puis mis en place
+     * et le segment supprimé d'un seul coup pour les lecteurs.
+     */
+    private void compact() {
+        try {
+            LinkedHashMap<Integer, Task> state = readSnapshot();
+            TaskJournal.replay(compactingFile, jsonMapper, record -> apply(state, record));
+            Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            writeSnapshotFile(tempFile, state.values());
+
+            files.writeLock().lock();
+            try {
+                installSnapshot(tempFile);
+                Files.deleteIfExists(compactingFile);
+                generation++;
+            } finally {
+                files.writeLock().unlock();
+            }
+        } catch (IOException e) {
+            System.err.println("Erreur compaction: " + e.getMessage());
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private List<Task> page(Predicate<Task> filter, int afterId, int limit) throws IOException {
+        return readState().values().stream()
+                .filter(task -> task.getId() > afterId && filter.test(task))
+                .sorted(Comparator.comparingInt(Task::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private LinkedHashMap<Integer, Task> readState() throws IOException {
+        return readFiles(() -> {
+            LinkedHashMap<Integer, Task> state = readSnapshot();
+            replayPendingJournal(record -> apply(state, record));
+            return state;
+        });
+    }
+
+    /**
+     * Exécute {@code read} sans qu'un ajout, une rotation ou une compaction ne modifie les fichiers entre-temps.
+     */
+    protected <T> T readFiles(FileRead<T> read) throws IOException {
+        files.readLock().lock();
+        try {
+            return read.run();
+        } finally {
+            files.readLock().unlock();
+        }
+    }
+
+    /**
+     * Change à chaque modification des fichiers ; lue sous {@link #readFiles}, elle date ce qui y est lu.
+     */
+    protected long generation() {
+        return generation;
+    }
+
+    /**
+     * Rejoue, dans l'ordre, les mutations pas encore fusionnées dans le snapshot. À appeler sous {@link #readFiles}.
+     */
+    protected void replayPendingJournal(Consumer<JournalRecord> consumer) throws IOException {
+        TaskJournal.replay(compactingFile, jsonMapper, consumer);
+        TaskJournal.replay(journalFile, jsonMapper, consumer);
+    }
+
+    private LinkedHashMap<Integer, Task> readSnapshot() throws IOException {
+        LinkedHashMap<Integer, Task> state = new LinkedHashMap<>();
+        Path file = currentSnapshotFile();
+        if (Files.exists(file)) {
+            readSnapshotFile(file, batch -> {
+                for (Task task : batch) {
+                    state.put(task.getId(), task);
+                }
+            });
+        }
+        return state;
+    }
+
+    /**
+     * Lit le snapshot par lots ; redéfini par les formats autres que JSON.
+     */
+    protected void readSnapshotFile(Path file, Consumer<List<Task>> batchConsumer) throws IOException {
+        jsonReader.read(file, batchConsumer);
+    }
+
+    protected void writeSnapshotFile(Path file, Collection<Task> tasks) throws IOException {
+        jsonWriter.write(file, tasks);
+    }
+
+    protected Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Fichier qui contient le snapshot en vigueur ; seul {@link #installSnapshot} le change.
+     */
+    protected Path currentSnapshotFile() throws IOException {
+        return snapshotFile;
+    }
+
+    /**
+     * Met en place le snapshot écrit par la compaction dans {@code tempFile}. Appelé sous le verrou des fichiers
+     * en écriture ; par défaut, le fichier remplace l'ancien snapshot.
+     */
+    protected void installSnapshot(Path tempFile) throws IOException {
+        try {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @FunctionalInterface
+    protected interface FileRead<T> {
+        T run() throws IOException;
+    }
+
+    private static void apply(LinkedHashMap<Integer, Task> state, JournalRecord record) {
+        switch (record.op()) {
+            case PUT:
+                state.put(record.task().getId(), record.task());
+                break;
+            case DELETE:
+                state.remove(record.id());
+                break;
+            case CLEAR:
+                state.clear();
+                break;
+        }
+    }
+}
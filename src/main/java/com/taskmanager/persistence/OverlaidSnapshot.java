@@ -0,0 +1,163 @@
+package com.taskmanager.persistence;
+
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Snapshot binaire projeté, vu à travers les mutations du journal pas encore fusionnées.
+ * Les tâches modifiées, ajoutées ou supprimées sont gardées en mémoire par id, les autres sont lues
+ * dans le fichier : une page coûte O(log m + taille de la page) pour m mutations en attente,
+ * quel que soit le nombre total de tâches.
+ */
+final class OverlaidSnapshot {
+
+    private final BinaryTaskSnapshot snapshot;
+    private final int snapshotSize;
+    private final int[] keys;
+    private final Task[] changes;
+    private final int[] snapshotIndexes;
+    private final int[] before;
+    private final int[] deltas;
+    private final int size;
+
+    private OverlaidSnapshot(BinaryTaskSnapshot snapshot, TreeMap<Integer, Task> changed) {
+        this.snapshot = snapshot;
+        this.snapshotSize = snapshot == null ? 0 : snapshot.size();
+        int count = changed.size();
+        this.keys = new int[count];
+        this.changes = new Task[count];
+        this.snapshotIndexes = new int[count];
+        this.before = new int[count];
+        this.deltas = new int[count + 1];
+
+        int j = 0;
+        for (Map.Entry<Integer, Task> entry : changed.entrySet()) {
+            keys[j] = entry.getKey();
+            changes[j] = entry.getValue();
+            snapshotIndexes[j] = indexInSnapshot(keys[j]);
+            boolean inSnapshot = snapshotIndexes[j] >= 0;
+            int insertion = inSnapshot ? snapshotIndexes[j] : -(snapshotIndexes[j] + 1);
+            before[j] = insertion + deltas[j];
+            deltas[j + 1] = deltas[j] + (changes[j] != null ? 1 : 0) - (inSnapshot ? 1 : 0);
+            j++;
+        }
+        this.size = snapshotSize + deltas[count];
+    }
+
+    /**
+     * {@code snapshot} peut être null (pas encore de snapshot) ; un CLEAR du journal le masque entièrement.
+     */
+    static OverlaidSnapshot of(BinaryTaskSnapshot snapshot, List<JournalRecord> pending) {
+        TreeMap<Integer, Task> changed = new TreeMap<>();
+        for (JournalRecord record : pending) {
+            switch (record.op()) {
+                case PUT:
+                    changed.put(record.task().getId(), record.task());
+                    break;
+                case DELETE:
+                    changed.put(record.id(), null);
+                    break;
+                case CLEAR:
+                    snapshot = null;
+                    changed.clear();
+                    break;
+            }
+        }
+        return new OverlaidSnapshot(snapshot, changed);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int maxId() {
+        return size == 0 ? 0 : range(size - 1, 1).get(0).getId();
+    }
+
+    Task findById(int id) {
+        int change = Arrays.binarySearch(keys, id);
+        if (change >= 0) {
+            return changes[change] == null ? null : changes[change].clone();
+        }
+        int index = indexInSnapshot(id);
+        return index >= 0 ? snapshot.get(index) : null;
+    }
+
+    /**
+     * Nombre de tâches d'id inférieur ou égal à {@code id}, c'est-à-dire la position de la première tâche suivante.
+     */
+    int rank(int id) {
+        int index = indexInSnapshot(id);
+        int inSnapshot = index >= 0 ? index + 1 : -(index + 1);
+        int change = Arrays.binarySearch(keys, id);
+        int changesUpTo = change >= 0 ? change + 1 : -(change + 1);
+        return inSnapshot + deltas[changesUpTo];
+    }
+
+    List<Task> range(int offset, int limit) {
+        int end = (int) Math.min(size, (long) offset + limit);
+        List<Task> tasks = new ArrayList<>(Math.max(0, end - offset));
+        if (offset >= end) return tasks;
+
+        // Dernière mutation placée avant la position demandée : entre elle et la suivante, la vue
+        // est une suite continue du snapshot.
+        int change = lastChangeAtOrBefore(offset);
+        int snapshotIndex;
+        int nextChange;
+        if (change < 0) {
+            snapshotIndex = offset;
+            nextChange = 0;
+        } else {
+            snapshotIndex = snapshotIndexes[change] >= 0 ? snapshotIndexes[change] + 1 : -(snapshotIndexes[change] + 1);
+            nextChange = change + 1;
+            int skip = offset - before[change];
+            if (changes[change] != null) {
+                if (skip == 0) {
+                    tasks.add(changes[change].clone());
+                }
+                skip--;
+            }
+            snapshotIndex += Math.max(0, skip);
+        }
+
+        while (tasks.size() < end - offset) {
+            int snapshotId = snapshotIndex < snapshotSize ? snapshot.idAt(snapshotIndex) : Integer.MAX_VALUE;
+            if (nextChange < keys.length && keys[nextChange] <= snapshotId) {
+                if (keys[nextChange] == snapshotId) {
+                    snapshotIndex++;
+                }
+                if (changes[nextChange] != null) {
+                    tasks.add(changes[nextChange].clone());
+                }
+                nextChange++;
+            } else {
+                tasks.add(snapshot.get(snapshotIndex++));
+            }
+        }
+        return tasks;
+    }
+
+    private int lastChangeAtOrBefore(int position) {
+        int low = 0;
+        int high = keys.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (before[middle] <= position) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    private int indexInSnapshot(int id) {
+        return snapshot == null ? -1 : snapshot.indexOf(id);
+    }
+}
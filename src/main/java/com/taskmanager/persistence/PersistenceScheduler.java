@@ -0,0 +1,193 @@
+package com.taskmanager.persistence;
+
+import com.taskmanager.jfr.SaveEvent;
+import com.taskmanager.metrics.Counter;
+import com.taskmanager.metrics.Histogram;
+import com.taskmanager.metrics.MetricsRegistry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Écrit le journal hors du thread JavaFX. Les mutations reçues pendant la fenêtre
+ * de debounce sont fusionnées (dernière valeur par tâche) et écrites en une seule fois.
+ * Un lot dont l'écriture échoue est remis en attente, sous les mutations arrivées depuis, et retenté :
+ * le journal n'étant qu'ajouté, un lot perdu ne serait jamais rattrapé par une sauvegarde suivante.
+ */
+public class PersistenceScheduler implements Closeable {
+
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final TaskRepository repository;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor;
+    private final Map<Integer, JournalRecord> pending;
+    private final Histogram saveTimer;
+    private final Histogram saveBytes;
+    private final Counter savedRecords;
+    private final Counter saveErrors;
+    private boolean clearPending;
+    private boolean dirty;
+    private volatile boolean closed;
+
+    public PersistenceScheduler(TaskRepository repository) {
+        this(repository, DEFAULT_DEBOUNCE);
+    }
+
+    public PersistenceScheduler(TaskRepository repository, Duration debounce) {
+        this(repository, debounce, new MetricsRegistry());
+    }
+
+    public PersistenceScheduler(TaskRepository repository, Duration debounce, MetricsRegistry metrics) {
+        this.repository = repository;
+        this.saveTimer = metrics.timer("storage.save");
+        this.saveBytes = metrics.histogram("storage.save.bytes");
+        this.savedRecords = metrics.counter("storage.save.records");
+        this.saveErrors = metrics.counter("storage.save.errors");
+        this.debounceMillis = debounce.toMillis();
+        this.pending = new LinkedHashMap<>();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void submit(JournalRecord record) {
+        submitAll(List.of(record));
+    }
+
+    public void submitAll(List<JournalRecord> records) {
+        synchronized (pending) {
+            for (JournalRecord record : records) {
+                enqueue(record);
+            }
+
+            if (!dirty && !records.isEmpty()) {
+                dirty = true;
+                executor.schedule(this::writePending, debounceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public boolean isDirty() {
+        synchronized (pending) {
+            return dirty;
+        }
+    }
+
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(this::writePending, executor);
+    }
+
+    public void awaitFlush(Duration timeout) throws InterruptedException, TimeoutException {
+        try {
+            flush().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            flush().join();
+        } finally {
+            executor.shutdown();
+            repository.close();
+        }
+    }
+
+    private void enqueue(JournalRecord record) {
+        switch (record.op()) {
+            case CLEAR:
+                pending.clear();
+                clearPending = true;
+                break;
+            case DELETE:
+                pending.put(record.id(), record);
+                break;
+            case PUT:
+                pending.put(record.task().getId(), record);
+                break;
+        }
+    }
+
+    private void writePending() {
+        List<JournalRecord> batch;
+        synchronized (pending) {
+            if (!dirty) return;
+
+            batch = new ArrayList<>(pending.size() + 1);
+            if (clearPending) {
+                batch.add(JournalRecord.clear());
+            }
+            batch.addAll(pending.values());
+            pending.clear();
+            clearPending = false;
+            dirty = false;
+        }
+
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long bytesBefore = repository.bytesWritten();
+        try {
+            repository.apply(batch);
+            saveTimer.recordSince(start);
+            savedRecords.add(batch.size());
+            long bytes = bytesBefore >= 0 ? repository.bytesWritten() - bytesBefore : -1;
+            if (bytes >= 0) {
+                saveBytes.record(bytes);
+            }
+            if (event.shouldCommit()) {
+                event.storage = repository.getClass().getSimpleName();
+                event.records = batch.size();
+                event.bytes = bytes;
+                event.commit();
+            }
+        } catch (IOException e) {
+            saveErrors.increment();
+            System.err.println("Erreur sauvegarde: " + e.getMessage());
+            restore(batch);
+        }
+    }
+
+    /**
+     * Remet un lot non écrit devant les mutations reçues pendant l'écriture, qui gardent le dernier mot
+     * pour la même tâche. Un CLEAR reçu entre-temps rend le lot inutile.
+     */
+    private void restore(List<JournalRecord> batch) {
+        synchronized (pending) {
+            if (clearPending) return;
+
+            Map<Integer, JournalRecord> newer = new LinkedHashMap<>(pending);
+            pending.clear();
+            for (JournalRecord record : batch) {
+                enqueue(record);
+            }
+            pending.putAll(newer);
+
+            if (closed) {
+                System.err.println("Modifications non enregistrées: " + pending.size());
+                return;
+            }
+            if (!dirty) {
+                dirty = true;
+                executor.schedule(this::writePending, RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
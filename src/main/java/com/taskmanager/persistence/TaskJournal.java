@@ -0,0 +1,111 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Journal en ajout seul : une ligne JSON par mutation.
+ * Les lignes illisibles (écriture interrompue par un crash) sont ignorées au rejeu.
+ */
+public class TaskJournal implements Closeable {
+
+    private final Path path;
+    private final ObjectMapper jsonMapper;
+    private OutputStream out;
+    private int recordCount;
+
+    public TaskJournal(Path path, ObjectMapper jsonMapper, int recordCount) {
+        this.path = path;
+        this.jsonMapper = jsonMapper;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Ajoute les entrées et renvoie le nombre d'octets écrits.
+     */
+    public long append(List<JournalRecord> records) throws IOException {
+        OutputStream stream = openStream();
+        long bytes = 0;
+        for (JournalRecord record : records) {
+            byte[] line = jsonMapper.writeValueAsBytes(record);
+            stream.write(line);
+            stream.write('\n');
+            bytes += line.length + 1;
+        }
+        stream.flush();
+        recordCount += records.size();
+        return bytes;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public void rotate(Path target) throws IOException {
+        close();
+        if (Files.exists(path)) {
+            Files.move(path, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordCount = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private OutputStream openStream() throws IOException {
+        if (out == null) {
+            terminatePartialLine();
+            out = new BufferedOutputStream(Files.newOutputStream(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        }
+        return out;
+    }
+
+    private void terminatePartialLine() throws IOException {
+        if (!Files.exists(path) || Files.size(path) == 0) return;
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            if (file.read() != '\n') {
+                file.write('\n');
+            }
+        }
+    }
+
+    public static int replay(Path path, ObjectMapper jsonMapper, Consumer<JournalRecord> consumer) throws IOException {
+        if (!Files.exists(path)) return 0;
+
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    consumer.accept(jsonMapper.readValue(line, JournalRecord.class));
+                    count++;
+                } catch (JsonProcessingException e) {
+                    System.err.println("Entrée de journal ignorée: " + e.getOriginalMessage());
+                }
+            }
+        }
+        return count;
+    }
+}
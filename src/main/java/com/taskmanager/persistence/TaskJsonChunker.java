@@ -0,0 +1,150 @@
+package com.taskmanager.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Découpe un tableau JSON de tâches en morceaux, chacun étant lui-même un tableau JSON valide
+ * d'au plus {@code tasksPerChunk} tâches. Le découpage ne fait que suivre les accolades et les chaînes :
+ * le décodage des morceaux peut ensuite se faire en parallèle avec {@link TaskJsonReader#read(byte[])}.
+ */
+public class TaskJsonChunker implements Closeable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final int tasksPerChunk;
+    private final long fileSize;
+    private final byte[] readBuffer;
+    private int readPosition;
+    private int readLimit;
+    private long bytesRead;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean finished;
+    private int sequence;
+
+    private byte[] chunk;
+    private int chunkLength;
+    private int chunkTasks;
+
+    public TaskJsonChunker(Path file, int tasksPerChunk) throws IOException {
+        this.in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+        this.tasksPerChunk = tasksPerChunk;
+        this.fileSize = Math.max(1, Files.size(file));
+        this.readBuffer = new byte[READ_BUFFER_SIZE];
+        this.chunk = new byte[READ_BUFFER_SIZE];
+    }
+
+    /**
+     * Morceau suivant, ou null en fin de tableau.
+     */
+    public Chunk next() throws IOException {
+        if (finished) return null;
+
+        startChunk();
+        int b;
+        while ((b = nextByte()) >= 0) {
+            if (inString) {
+                append(b);
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (depth >= 2) {
+                append(b);
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 1 && ++chunkTasks >= tasksPerChunk) {
+                    return finishChunk();
+                }
+            } else if (depth == 1) {
+                if (b == '{') {
+                    if (chunkTasks > 0) append(',');
+                    append(b);
+                    depth = 2;
+                } else if (b == ']') {
+                    finished = true;
+                    return chunkTasks > 0 ? finishChunk() : null;
+                } else if (b != ',' && !isWhitespace(b)) {
+                    throw new IOException("Format invalide: seules des tâches sont attendues dans le tableau");
+                }
+            } else if (b == '[') {
+                depth = 1;
+            } else if (!isWhitespace(b) && !isByteOrderMark(b)) {
+                throw new IOException("Format invalide: un tableau de tâches est attendu");
+            }
+        }
+
+        finished = true;
+        if (depth > 0) {
+            throw new IOException("Format invalide: fin de fichier inattendue");
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void startChunk() {
+        chunk[0] = '[';
+        chunkLength = 1;
+        chunkTasks = 0;
+    }
+
+    private Chunk finishChunk() {
+        append(']');
+        return new Chunk(sequence++, Arrays.copyOf(chunk, chunkLength), chunkTasks,
+                Math.min(1.0, (double) bytesRead / fileSize));
+    }
+
+    private void append(int b) {
+        if (chunkLength == chunk.length) {
+            chunk = Arrays.copyOf(chunk, chunk.length * 2);
+        }
+        chunk[chunkLength++] = (byte) b;
+    }
+
+    private int nextByte() throws IOException {
+        if (readPosition == readLimit) {
+            readLimit = in.read(readBuffer);
+            readPosition = 0;
+            if (readLimit <= 0) {
+                readLimit = 0;
+                return -1;
+            }
+            bytesRead += readLimit;
+        }
+        return readBuffer[readPosition++] & 0xFF;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isByteOrderMark(int b) {
+        return b == 0xEF || b == 0xBB || b == 0xBF;
+    }
+
+    /**
+     * Tableau JSON de {@code taskCount} tâches ; {@code progress} est la part du fichier lue à sa fin.
+     */
+    public record Chunk(int sequence, byte[] json, int taskCount, double progress) {
+    }
+}
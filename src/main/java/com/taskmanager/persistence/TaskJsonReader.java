@@ -0,0 +1,88 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskmanager.model.Task;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Lecture en flux d'un tableau JSON de tâches : une tâche à la fois, livrées par lots.
+ */
+public class TaskJsonReader {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectReader taskReader;
+
+    public TaskJsonReader(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.taskReader = jsonMapper.readerFor(Task.class);
+    }
+
+    public long read(Path file, Consumer<List<Task>> batchConsumer) throws IOException {
+        return read(file, DEFAULT_BATCH_SIZE, batchConsumer, progress -> {});
+    }
+
+    public long read(Path file, int batchSize, Consumer<List<Task>> batchConsumer, DoubleConsumer progress) throws IOException {
+        long fileSize = Math.max(1, Files.size(file));
+        long count = 0;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+             JsonParser parser = jsonMapper.getFactory().createParser(in)) {
+
+            if (!startArray(parser)) return 0;
+
+            List<Task> batch = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                batch.add(taskReader.readValue(parser));
+                count++;
+
+                if (batch.size() >= batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                    progress.accept(Math.min(1.0, (double) parser.getCurrentLocation().getByteOffset() / fileSize));
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+        progress.accept(1.0);
+        return count;
+    }
+
+    /**
+     * Décode un tableau JSON déjà en mémoire, par exemple un morceau produit par {@link TaskJsonChunker}.
+     */
+    public List<Task> read(byte[] json) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        try (JsonParser parser = jsonMapper.getFactory().createParser(json)) {
+            if (!startArray(parser)) return tasks;
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                tasks.add(taskReader.readValue(parser));
+            }
+        }
+        return tasks;
+    }
+
+    private static boolean startArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) return false;
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("Format invalide: un tableau de tâches est attendu");
+        }
+        return true;
+    }
+}
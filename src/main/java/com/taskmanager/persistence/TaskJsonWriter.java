@@ -0,0 +1,56 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.model.Task;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Écriture en flux d'un tableau JSON de tâches, sans construire le document en mémoire.
+ */
+public class TaskJsonWriter {
+
+    private static final int PROGRESS_STEP = 1000;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectWriter taskWriter;
+
+    public TaskJsonWriter(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.taskWriter = jsonMapper.writerFor(Task.class)
+                .withDefaultPrettyPrinter()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(Path file, Collection<Task> tasks) throws IOException {
+        write(file, tasks, progress -> {});
+    }
+
+    public void write(Path file, Collection<Task> tasks, DoubleConsumer progress) throws IOException {
+        int total = Math.max(1, tasks.size());
+        int written = 0;
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+             JsonGenerator generator = jsonMapper.getFactory().createGenerator(out)) {
+
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
+            for (Task task : tasks) {
+                taskWriter.writeValue(generator, task);
+                if (++written % PROGRESS_STEP == 0) {
+                    progress.accept((double) written / total);
+                }
+            }
+            generator.writeEndArray();
+        }
+        progress.accept(1.0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskmanager.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Choix du stockage selon la propriété système {@value #STORAGE_PROPERTY} :
+ * {@code json} (par défaut), {@code binary} ou {@code h2}.
+ * À la première ouverture d'un stockage binaire ou H2 vide, les tâches du fichier JSON existant y sont recopiées.
+ * Le JSON reste le format d'import/export dans tous les cas.
+ */
+public final class TaskRepositories {
+
+    public static final String STORAGE_PROPERTY = "taskmanager.storage";
+
+    private TaskRepositories() {
+    }
+
+    public static ObjectMapper newJsonMapper() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.registerModule(new JavaTimeModule());
+        return jsonMapper;
+    }
+
+    public static TaskRepository fromConfiguration(Path jsonFile) throws IOException {
+        String storage = System.getProperty(STORAGE_PROPERTY, "json");
+        switch (storage.toLowerCase()) {
+            case "h2":
+                return openH2(jsonFile);
+            case "binary":
+                return openBinary(jsonFile);
+            case "json":
+                return new JsonTaskStore(jsonFile, newJsonMapper());
+            default:
+                throw new IOException("Stockage inconnu: " + storage);
+        }
+    }
+
+    private static TaskRepository openBinary(Path jsonFile) throws IOException {
+        String baseName = jsonFile.getFileName().toString().replaceFirst("\\.json$", "");
+        Path snapshotFile = jsonFile.resolveSibling(baseName + ".bin");
+
+        if (!BinaryTaskStore.storeExists(snapshotFile) && JsonTaskStore.exists(jsonFile)) {
+            try (JsonTaskStore jsonStore = new JsonTaskStore(jsonFile, newJsonMapper())) {
+                List<Task> tasks = new ArrayList<>(jsonStore.load());
+                tasks.sort(Comparator.comparingInt(Task::getId));
+                BinaryTaskSnapshot.write(snapshotFile, tasks);
+            }
+        }
+        return new BinaryTaskStore(snapshotFile, newJsonMapper());
+    }
+
+    private static TaskRepository openH2(Path jsonFile) throws IOException {
+        String baseName = jsonFile.getFileName().toString().replaceFirst("\\.json$", "");
+        Path databaseFile = jsonFile.resolveSibling(baseName);
+        boolean created = !Files.exists(jsonFile.resolveSibling(baseName + ".mv.db"));
+
+        H2TaskRepository repository = new H2TaskRepository(databaseFile);
+        if (created && JsonTaskStore.exists(jsonFile)) {
+            try (JsonTaskStore jsonStore = new JsonTaskStore(jsonFile, newJsonMapper())) {
+                List<JournalRecord> records = jsonStore.load().stream()
+                        .map(JournalRecord::put)
+                        .collect(Collectors.toList());
+                repository.apply(records);
+            }
+        }
+        return repository;
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskmanager.persistence;
+
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stockage des tâches utilisé par le service.
+ * Les écritures arrivent par lots de {@link JournalRecord} déjà fusionnés par le {@link PersistenceScheduler} ;
+ * chaque lot est appliqué en entier ou pas du tout. Les lectures paginées utilisent une pagination
+ * par clé : {@code afterId} est l'id de la dernière tâche de la page précédente (0 pour la première).
+ */
+public interface TaskRepository extends Closeable {
+
+    List<Task> load() throws IOException;
+
+    /**
+     * Toutes les tâches dans l'ordre des ids, sans toucher à l'état d'écriture : contrairement à {@link #load},
+     * utilisable pendant que le stockage reçoit des écritures.
+     */
+    default List<Task> readAll() throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> page;
+        int afterId = 0;
+        while (!(page = loadPage(afterId, 1000)).isEmpty()) {
+            tasks.addAll(page);
+            afterId = page.get(page.size() - 1).getId();
+        }
+        return tasks;
+    }
+
+    void apply(List<JournalRecord> records) throws IOException;
+
+    int count() throws IOException;
+
+    int maxId() throws IOException;
+
+    Optional<Task> findById(int id) throws IOException;
+
+    List<Task> loadPage(int afterId, int limit) throws IOException;
+
+    /**
+     * Plage de tâches par position dans l'ordre des ids, pour un affichage paginé.
+     */
+    List<Task> loadRange(int offset, int limit) throws IOException;
+
+    List<Task> findByStatus(Status status, int afterId, int limit) throws IOException;
+
+    List<Task> findDueBetween(LocalDate from, LocalDate to, int afterId, int limit) throws IOException;
+
+    /**
+     * Octets écrits par {@link #apply} depuis l'ouverture, pour les mesures ; -1 si le stockage ne les compte pas.
+     */
+    default long bytesWritten() {
+        return -1;
+    }
+}
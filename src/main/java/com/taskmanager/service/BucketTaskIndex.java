@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Index trié par une clé à très peu de valeurs (priorité, statut) : un seau par valeur,
+ * chaque seau trié par id. Aucune comparaison de clé n'est nécessaire.
+ */
+final class BucketTaskIndex extends SortedTaskIndex {
+
+    private final Function<Task, ?> keyOf;
+    private final ToIntFunction<Object> bucketOfKey;
+    private final List<ArrayList<Task>> buckets;
+
+    BucketTaskIndex(TaskField keyField, int bucketCount, Function<Task, ?> keyOf, ToIntFunction<Object> bucketOfKey) {
+        super(keyField);
+        this.keyOf = keyOf;
+        this.bucketOfKey = bucketOfKey;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        int offset = index;
+        for (ArrayList<Task> bucket : buckets) {
+            if (offset < bucket.size()) {
+                return bucket.get(offset);
+            }
+            offset -= bucket.size();
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (ArrayList<Task> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    @Override
+    Comparator<Task> comparator() {
+        return Comparator.comparingInt(this::bucketOf).thenComparingInt(Task::getId);
+    }
+
+    /**
+     * Tâches ayant la valeur de clé donnée, triées par id.
+     */
+    List<Task> bucket(Object key) {
+        return Collections.unmodifiableList(buckets.get(bucketOfKey.applyAsInt(key)));
+    }
+
+    @Override
+    protected int insert(Task task) {
+        int bucketIndex = bucketOf(task);
+        ArrayList<Task> bucket = buckets.get(bucketIndex);
+
+        int position = bucket.size();
+        if (position > 0 && bucket.get(position - 1).getId() > task.getId()) {
+            position = -searchById(bucket, task.getId()) - 1;
+        }
+        bucket.add(position, task);
+        return offsetOf(bucketIndex) + position;
+    }
+
+    @Override
+    protected int remove(Task task) {
+        return removeFrom(bucketOf(task), task);
+    }
+
+    @Override
+    protected int positionOf(Task task) {
+        int bucketIndex = bucketOf(task);
+        int position = searchById(buckets.get(bucketIndex), task.getId());
+        return position < 0 ? -1 : offsetOf(bucketIndex) + position;
+    }
+
+    @Override
+    protected int removeWithOldKey(Task task, Object oldKey) {
+        return removeFrom(bucketOfKey.applyAsInt(oldKey), task);
+    }
+
+    private int removeFrom(int bucketIndex, Task task) {
+        ArrayList<Task> bucket = buckets.get(bucketIndex);
+
+        int position = searchById(bucket, task.getId());
+        if (position < 0) return -1;
+
+        bucket.remove(position);
+        return offsetOf(bucketIndex) + position;
+    }
+
+    @Override
+    protected void rebuild(List<Task> allTasks) {
+        for (ArrayList<Task> bucket : buckets) {
+            bucket.clear();
+        }
+        for (Task task : allTasks) {
+            buckets.get(bucketOf(task)).add(task);
+        }
+        for (ArrayList<Task> bucket : buckets) {
+            bucket.sort((first, second) -> Integer.compare(first.getId(), second.getId()));
+        }
+    }
+
+    private int bucketOf(Task task) {
+        return bucketOfKey.applyAsInt(keyOf.apply(task));
+    }
+
+    private int offsetOf(int bucketIndex) {
+        int offset = 0;
+        for (int i = 0; i < bucketIndex; i++) {
+            offset += buckets.get(i).size();
+        }
+        return offset;
+    }
+
+    private static int searchById(List<Task> bucket, int id) {
+        int low = 0;
+        int high = bucket.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = bucket.get(middle).getId();
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
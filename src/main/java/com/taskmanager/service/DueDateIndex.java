@@ -0,0 +1,118 @@
+package com.taskmanager.service;
+
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Tâches ouvertes (non terminées) avec échéance, regroupées par jour epoch.
+ * « En retard » et « aujourd'hui » sont des lectures d'intervalle ; au changement de jour,
+ * seuls les seaux situés entre l'ancien et le nouveau jour changent de catégorie.
+ */
+final class DueDateIndex {
+
+    private final NavigableMap<Integer, Set<Task>> tasksByDay = new TreeMap<>();
+    private int today;
+    private int overdueCount;
+
+    DueDateIndex(int today) {
+        this.today = today;
+    }
+
+    void add(Task task) {
+        add(task, task.getDueEpochDay(), task.getStatus());
+    }
+
+    void remove(Task task) {
+        remove(task, task.getDueEpochDay(), task.getStatus());
+    }
+
+    void move(Task task, int oldDueDay, Status oldStatus) {
+        remove(task, oldDueDay, oldStatus);
+        add(task);
+    }
+
+    void clear() {
+        tasksByDay.clear();
+        overdueCount = 0;
+    }
+
+    int getToday() {
+        return today;
+    }
+
+    int overdueCount() {
+        return overdueCount;
+    }
+
+    int dueTodayCount() {
+        Set<Task> dueToday = tasksByDay.get(today);
+        return dueToday == null ? 0 : dueToday.size();
+    }
+
+    List<Task> overdueTasks() {
+        return flatten(tasksByDay.headMap(today, false));
+    }
+
+    List<Task> dueTodayTasks() {
+        Set<Task> dueToday = tasksByDay.get(today);
+        return dueToday == null ? Collections.emptyList() : new ArrayList<>(dueToday);
+    }
+
+    /**
+     * Passe au jour donné et renvoie les tâches dont la catégorie a changé :
+     * celles des jours compris entre l'ancien et le nouveau jour, bornes incluses.
+     */
+    List<Task> rollOver(int newToday) {
+        if (newToday == today) return Collections.emptyList();
+
+        int from = Math.min(today, newToday);
+        int to = Math.max(today, newToday);
+        int crossing = 0;
+        for (Set<Task> tasks : tasksByDay.subMap(from, true, to, false).values()) {
+            crossing += tasks.size();
+        }
+        overdueCount += newToday > today ? crossing : -crossing;
+
+        List<Task> affected = flatten(tasksByDay.subMap(from, true, to, true));
+        today = newToday;
+        return affected;
+    }
+
+    private void add(Task task, int dueDay, Status status) {
+        if (!isIndexed(dueDay, status)) return;
+
+        if (tasksByDay.computeIfAbsent(dueDay, day -> new LinkedHashSet<>()).add(task) && dueDay < today) {
+            overdueCount++;
+        }
+    }
+
+    private void remove(Task task, int dueDay, Status status) {
+        if (!isIndexed(dueDay, status)) return;
+
+        Set<Task> tasks = tasksByDay.get(dueDay);
+        if (tasks != null && tasks.remove(task)) {
+            if (dueDay < today) overdueCount--;
+            if (tasks.isEmpty()) tasksByDay.remove(dueDay);
+        }
+    }
+
+    private static boolean isIndexed(int dueDay, Status status) {
+        return dueDay != Task.NO_DATE && status != Status.COMPLETED;
+    }
+
+    private static List<Task> flatten(Map<Integer, Set<Task>> buckets) {
+        List<Task> tasks = new ArrayList<>();
+        for (Set<Task> bucket : buckets.values()) {
+            tasks.addAll(bucket);
+        }
+        return tasks;
+    }
+}
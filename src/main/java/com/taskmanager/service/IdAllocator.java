@@ -0,0 +1,27 @@
+package com.taskmanager.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Attribution des identifiants sans verrou. Un import réserve un bloc contigu en une seule opération,
+ * pendant que le thread JavaFX continue d'en prendre un par un.
+ */
+final class IdAllocator {
+
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    int next() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Réserve {@code count} identifiants consécutifs et renvoie le premier.
+     */
+    int allocateBlock(int count) {
+        return nextId.getAndAdd(count);
+    }
+
+    void reset(int firstFreeId) {
+        nextId.set(firstFreeId);
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Index trié par une clé continue (titre, échéance, date de création).
+ * Tableau trié parcouru par recherche dichotomique : O(log N) comparaisons par mutation
+ * et accès positionnel en O(1) pour la TableView.
+ */
+final class OrderedTaskIndex extends SortedTaskIndex {
+
+    private final Comparator<Task> order;
+    private final BiConsumer<Task, Object> oldKeyWriter;
+    private final ArrayList<Task> tasks = new ArrayList<>();
+
+    OrderedTaskIndex(TaskField keyField, Comparator<Task> keyOrder, BiConsumer<Task, Object> oldKeyWriter) {
+        super(keyField);
+        this.order = keyOrder.thenComparingInt(Task::getId);
+        this.oldKeyWriter = oldKeyWriter;
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    Comparator<Task> comparator() {
+        return order;
+    }
+
+    /**
+     * Tranche contiguë de l'index : les tâches qui ne sont ni avant ni après l'intervalle.
+     * Les deux prédicats doivent être monotones dans l'ordre de l'index.
+     */
+    List<Task> between(Predicate<Task> beforeRange, Predicate<Task> afterRange) {
+        int from = firstNotMatching(beforeRange);
+        int to = Math.max(from, firstMatching(afterRange));
+        return Collections.unmodifiableList(tasks.subList(from, to));
+    }
+
+    @Override
+    protected int insert(Task task) {
+        int size = tasks.size();
+        if (size == 0 || order.compare(tasks.get(size - 1), task) < 0) {
+            tasks.add(task);
+            return size;
+        }
+
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(tasks.get(middle), task) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        tasks.add(low, task);
+        return low;
+    }
+
+    @Override
+    protected int remove(Task task) {
+        return removeAt(task, task);
+    }
+
+    @Override
+    protected int positionOf(Task task) {
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = order.compare(tasks.get(middle), task);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return tasks.get(middle).getId() == task.getId() ? middle : -1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected int removeWithOldKey(Task task, Object oldKey) {
+        Task probe = task.clone();
+        oldKeyWriter.accept(probe, oldKey);
+        return removeAt(task, probe);
+    }
+
+    private int removeAt(Task task, Task keyProbe) {
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Task candidate = tasks.get(middle);
+            if (candidate.getId() == task.getId()) {
+                tasks.remove(middle);
+                return middle;
+            }
+            if (order.compare(candidate, keyProbe) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int firstNotMatching(Predicate<Task> prefix) {
+        return firstMatching(prefix.negate());
+    }
+
+    private int firstMatching(Predicate<Task> suffix) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (suffix.test(tasks.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    protected void rebuild(List<Task> allTasks) {
+        tasks.clear();
+        tasks.addAll(allTasks);
+        tasks.sort(order);
+    }
+}
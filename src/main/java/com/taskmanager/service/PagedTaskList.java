@@ -0,0 +1,179 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import javafx.collections.ObservableListBase;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Liste observable en lecture seule qui connaît la taille totale mais ne garde en mémoire
+ * que les pages consultées. Une page absente est lue à la demande ; les pages voisines sont
+ * préchargées en arrière-plan ; au-delà de {@code maxPages}, la page la moins récemment lue est évincée.
+ * Toutes les méthodes de la liste s'appellent depuis le thread JavaFX.
+ */
+public class PagedTaskList extends ObservableListBase<Task> {
+
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    public static final int DEFAULT_MAX_PAGES = 20;
+
+    private final TaskPageSource source;
+    private final int pageSize;
+    private final Consumer<Runnable> uiDispatcher;
+    private final ExecutorService prefetchExecutor;
+    private final Map<Integer, List<Task>> pages;
+    private int size;
+    private long generation;
+
+    public PagedTaskList(TaskPageSource source, Consumer<Runnable> uiDispatcher) throws IOException {
+        this(source, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES, uiDispatcher);
+    }
+
+    public PagedTaskList(TaskPageSource source, int pageSize, int maxPages, Consumer<Runnable> uiDispatcher) throws IOException {
+        this.source = source;
+        this.pageSize = pageSize;
+        this.uiDispatcher = uiDispatcher;
+        this.pages = new LinkedHashMap<>(maxPages + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<Task>> eldest) {
+                return size() > maxPages;
+            }
+        };
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.size = source.count();
+    }
+
+    @Override
+    public Task get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        int pageIndex = index / pageSize;
+        List<Task> page = pages.get(pageIndex);
+        if (page == null) {
+            page = fetchPage(pageIndex);
+            pages.put(pageIndex, page);
+            prefetch(pageIndex + 1);
+            prefetch(pageIndex - 1);
+        }
+
+        int offset = index % pageSize;
+        return offset < page.size() ? page.get(offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int cachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Remplace une tâche déjà chargée sans relire la source, pour une modification qui ne change pas sa position.
+     */
+    public void replace(Task task) {
+        for (Map.Entry<Integer, List<Task>> entry : pages.entrySet()) {
+            List<Task> page = entry.getValue();
+            for (int i = 0; i < page.size(); i++) {
+                if (page.get(i).getId() == task.getId()) {
+                    Task previous = page.set(i, task);
+                    beginChange();
+                    nextSet(entry.getKey() * pageSize + i, previous);
+                    endChange();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Oublie les pages chargées et relit la taille, après un ajout ou une suppression.
+     */
+    public void refresh() {
+        generation++;
+        pages.clear();
+        int previousSize = size;
+        try {
+            size = source.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        beginChange();
+        if (previousSize > 0) {
+            nextRemove(0, new PlaceholderList(previousSize));
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    public void close() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    private List<Task> fetchPage(int pageIndex) {
+        try {
+            return new ArrayList<>(source.fetch(pageIndex * pageSize, pageSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void prefetch(int pageIndex) {
+        if (pageIndex < 0 || pageIndex * pageSize >= size || pages.containsKey(pageIndex)) return;
+
+        long requestGeneration = generation;
+        prefetchExecutor.execute(() -> {
+            List<Task> page;
+            try {
+                page = new ArrayList<>(source.fetch(pageIndex * pageSize, pageSize));
+            } catch (IOException e) {
+                System.err.println("Erreur préchargement: " + e.getMessage());
+                return;
+            }
+            uiDispatcher.accept(() -> {
+                if (requestGeneration == generation && !pages.containsKey(pageIndex)) {
+                    pages.put(pageIndex, page);
+                }
+            });
+        });
+    }
+
+    /**
+     * Éléments retirés lors d'un rafraîchissement : seule la taille est connue, les pages ayant été oubliées.
+     */
+    private static final class PlaceholderList extends AbstractList<Task> {
+
+        private final int size;
+
+        PlaceholderList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Task get(int index) {
+            return null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskmanager.service;
+
+import com.taskmanager.enums.SortCriterion;
+import com.taskmanager.model.Task;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Exécute une {@link TaskQuery} en partant de l'index le plus sélectif (texte, statut,
+ * priorité ou échéance), puis en filtrant les candidats sur les critères restants.
+ * Quand aucun index n'élimine assez de tâches, la vue triée est parcourue directement :
+ * l'ordre est alors déjà le bon et la pagination interrompt le parcours au plus tôt.
+ */
+final class QueryPlanner {
+
+    private static final int MIN_SELECTIVITY = 8;
+
+    private final List<Task> allTasks;
+    private final TaskIndex taskIndex;
+    private final SearchIndex searchIndex;
+    private final Map<SortCriterion, SortedTaskIndex> sortedIndexes;
+
+    QueryPlanner(List<Task> allTasks, TaskIndex taskIndex, SearchIndex searchIndex,
+                 Map<SortCriterion, SortedTaskIndex> sortedIndexes) {
+        this.allTasks = allTasks;
+        this.taskIndex = taskIndex;
+        this.searchIndex = searchIndex;
+        this.sortedIndexes = sortedIndexes;
+    }
+
+    List<Task> execute(TaskQuery query) {
+        BitSet textMatches = query.getText() == null ? null : searchIndex.search(query.getText());
+        Predicate<Task> filter = query.toPredicate(textMatches);
+        SortedTaskIndex sortOrder = sortedIndexes.get(query.getSort());
+
+        Candidates driver = mostSelective(query, textMatches);
+        Stream<Task> matches;
+        if (driver == null || (long) driver.size() * MIN_SELECTIVITY > allTasks.size()) {
+            matches = sortOrder.stream().filter(filter);
+        } else {
+            matches = driver.tasks().filter(filter).sorted(sortOrder.comparator());
+        }
+
+        return matches.skip(query.getOffset())
+                .limit(query.getLimit())
+                .collect(Collectors.toList());
+    }
+
+    private Candidates mostSelective(TaskQuery query, BitSet textMatches) {
+        Candidates best = null;
+
+        if (textMatches != null) {
+            best = cheaper(best, new Candidates(textMatches.cardinality(),
+                    textMatches.stream().mapToObj(taskIndex::get).filter(Objects::nonNull)));
+        }
+        if (query.getStatuses() != null) {
+            best = cheaper(best, fromBuckets(SortCriterion.STATUS, query.getStatuses()));
+        }
+        if (query.getPriorities() != null) {
+            best = cheaper(best, fromBuckets(SortCriterion.PRIORITY, query.getPriorities()));
+        }
+        if (query.hasDueRange()) {
+            OrderedTaskIndex dueIndex = (OrderedTaskIndex) sortedIndexes.get(SortCriterion.DUE_DATE);
+            List<Task> range = dueIndex.between(
+                    task -> SortedTaskIndex.dueDateKey(task) < query.getDueFrom(),
+                    task -> SortedTaskIndex.dueDateKey(task) > query.getDueTo());
+            best = cheaper(best, new Candidates(range.size(), range.stream()));
+        }
+        return best;
+    }
+
+    private Candidates fromBuckets(SortCriterion criterion, Set<?> keys) {
+        BucketTaskIndex index = (BucketTaskIndex) sortedIndexes.get(criterion);
+        int size = 0;
+        for (Object key : keys) {
+            size += index.bucket(key).size();
+        }
+        return new Candidates(size, keys.stream().flatMap(key -> index.bucket(key).stream()));
+    }
+
+    private static Candidates cheaper(Candidates current, Candidates candidate) {
+        return (current == null || candidate.size() < current.size()) ? candidate : current;
+    }
+
+    private record Candidates(int size, Stream<Task> tasks) {
+    }
+}
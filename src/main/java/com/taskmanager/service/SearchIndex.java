@@ -0,0 +1,193 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Index inversé jeton -> ids des tâches, sur le titre et la description.
+ * Chaque mot de la requête est recherché comme préfixe d'un jeton indexé,
+ * ce qui permet la recherche au fil de la saisie ; les mots sont combinés en ET.
+ * Les recherches peuvent s'exécuter hors du thread JavaFX pendant que celui-ci met l'index à jour.
+ */
+public class SearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, Postings> postingsByToken = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(Task task) {
+        lock.writeLock().lock();
+        try {
+            add(task.getId(), task.getTitle(), task.getDescription());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Task task) {
+        lock.writeLock().lock();
+        try {
+            remove(task.getId(), task.getTitle(), task.getDescription());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(int id, String oldTitle, String oldDescription, String newTitle, String newDescription) {
+        lock.writeLock().lock();
+        try {
+            remove(id, oldTitle, oldDescription);
+            add(id, newTitle, newDescription);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postingsByToken.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public BitSet search(String query) {
+        Set<String> prefixes = tokenize(query);
+        lock.readLock().lock();
+        try {
+            return search(prefixes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByToken.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet search(Set<String> prefixes) {
+        BitSet result = null;
+        for (String prefix : prefixes) {
+            if (Thread.currentThread().isInterrupted()) break;
+
+            BitSet matches = new BitSet();
+            for (Postings postings : prefixRange(prefix).values()) {
+                postings.orInto(matches);
+            }
+
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+            if (result.isEmpty()) break;
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    private void add(int id, String title, String description) {
+        for (String token : tokenize(title, description)) {
+            postingsByToken.computeIfAbsent(token, key -> new Postings()).add(id);
+        }
+    }
+
+    private void remove(int id, String title, String description) {
+        for (String token : tokenize(title, description)) {
+            Postings postings = postingsByToken.get(token);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                postingsByToken.remove(token);
+            }
+        }
+    }
+
+    private Map<String, Postings> prefixRange(String prefix) {
+        return postingsByToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    static Set<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) continue;
+
+            String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+            for (String token : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Postings {
+
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] < id) {
+                append(id);
+                return;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) return;
+
+            int insertion = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+            ids[insertion] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) return false;
+
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void orInto(BitSet target) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] >= 0) {
+                    target.set(ids[i]);
+                }
+            }
+        }
+
+        private void append(int id) {
+            ensureCapacity();
+            ids[size++] = id;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
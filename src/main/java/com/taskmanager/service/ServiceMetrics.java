@@ -0,0 +1,60 @@
+package com.taskmanager.service;
+
+import com.taskmanager.metrics.Counter;
+import com.taskmanager.metrics.Histogram;
+import com.taskmanager.metrics.MetricsRegistry;
+
+/**
+ * Mesures du service, résolues une fois pour ne pas chercher par nom à chaque opération.
+ * Les mutations sont chronométrées pendant leur application, événements de liste et index compris.
+ */
+final class ServiceMetrics {
+
+    final Histogram add;
+    final Histogram update;
+    final Histogram delete;
+    final Histogram batch;
+    final Histogram clear;
+    final Histogram importBatch;
+    final Histogram search;
+    final Histogram query;
+    final Histogram findById;
+    final Histogram sort;
+    final Histogram count;
+    final Histogram dueDates;
+    final Histogram load;
+    final Histogram importFile;
+    final Histogram export;
+    final Histogram writeLockWait;
+    final Counter listEvents;
+    final Counter listAdded;
+    final Counter listRemoved;
+    final Counter taskChanges;
+    final Counter importedTasks;
+    final Counter loadErrors;
+
+    ServiceMetrics(MetricsRegistry registry) {
+        add = registry.timer("task.add");
+        update = registry.timer("task.update");
+        delete = registry.timer("task.delete");
+        batch = registry.timer("task.batch");
+        clear = registry.timer("task.clear");
+        importBatch = registry.timer("task.import.batch");
+        search = registry.timer("task.search");
+        query = registry.timer("task.query");
+        findById = registry.timer("task.findById");
+        sort = registry.timer("task.sort");
+        count = registry.timer("task.count");
+        dueDates = registry.timer("task.dueDates");
+        load = registry.timer("storage.load");
+        importFile = registry.timer("task.import");
+        export = registry.timer("task.export");
+        writeLockWait = registry.timer("lock.write.wait");
+        listEvents = registry.counter("list.events");
+        listAdded = registry.counter("list.added");
+        listRemoved = registry.counter("list.removed");
+        taskChanges = registry.counter("task.changes");
+        importedTasks = registry.counter("task.import.tasks");
+        loadErrors = registry.counter("storage.load.errors");
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskmanager.service;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.SortCriterion;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskField;
+import javafx.collections.ObservableListBase;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Vue triée et en lecture seule de toutes les tâches, maintenue à chaque mutation
+ * au lieu d'être recalculée quand l'utilisateur change de critère de tri.
+ */
+public abstract class SortedTaskIndex extends ObservableListBase<Task> {
+
+    private static final int REBUILD_THRESHOLD = 1024;
+
+    private final TaskField keyField;
+
+    protected SortedTaskIndex(TaskField keyField) {
+        this.keyField = keyField;
+    }
+
+    static SortedTaskIndex forCriterion(SortCriterion criterion) {
+        switch (criterion) {
+            case PRIORITY:
+                return new BucketTaskIndex(TaskField.PRIORITY, Priority.values().length + 1, Task::getPriority,
+                        key -> key == null ? Priority.values().length : Priority.values().length - 1 - ((Priority) key).ordinal());
+            case STATUS:
+                return new BucketTaskIndex(TaskField.STATUS, Status.values().length + 1, Task::getStatus,
+                        key -> key == null ? Status.values().length : ((Status) key).ordinal());
+            case DUE_DATE:
+                return new OrderedTaskIndex(TaskField.DUE_DATE,
+                        Comparator.comparingInt(SortedTaskIndex::dueDateKey),
+                        (probe, oldKey) -> probe.setDueDate((LocalDate) oldKey));
+            case CREATED:
+                return new OrderedTaskIndex(TaskField.CREATED_AT,
+                        Comparator.comparingLong(Task::getCreatedEpochSecond),
+                        (probe, oldKey) -> probe.setCreatedAt((LocalDateTime) oldKey));
+            case TITLE:
+            default:
+                return new OrderedTaskIndex(TaskField.TITLE,
+                        Comparator.comparing(Task::getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)),
+                        (probe, oldKey) -> probe.setTitle((String) oldKey));
+        }
+    }
+
+    static int dueDateKey(Task task) {
+        return task.getDueEpochDay() == Task.NO_DATE ? Integer.MAX_VALUE : task.getDueEpochDay();
+    }
+
+    void apply(List<? extends Task> removed, List<? extends Task> added, List<Task> allTasks) {
+        if (removed.size() + added.size() > REBUILD_THRESHOLD) {
+            beginChange();
+            try {
+                List<Task> previous = List.copyOf(this);
+                rebuild(allTasks);
+                nextReplace(0, size(), previous);
+            } finally {
+                endChange();
+            }
+            return;
+        }
+
+        beginChange();
+        try {
+            for (Task task : removed) {
+                int position = remove(task);
+                if (position >= 0) {
+                    nextRemove(position, task);
+                }
+            }
+            for (Task task : added) {
+                int position = insert(task);
+                nextAdd(position, position + 1);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Si le champ modifié est la clé de tri, la tâche est déplacée ; sinon, ou si elle reste à sa place,
+     * seul un événement de mise à jour est émis, et seulement si la vue est affichée.
+     */
+    void taskChanged(Task task, TaskField field, Object oldValue) {
+        if (field != keyField) {
+            if (hasListeners()) {
+                int position = positionOf(task);
+                if (position >= 0) {
+                    fireUpdated(position);
+                }
+            }
+            return;
+        }
+
+        int oldPosition = removeWithOldKey(task, oldValue);
+        int newPosition = insert(task);
+        if (oldPosition == newPosition) {
+            fireUpdated(newPosition);
+            return;
+        }
+
+        beginChange();
+        try {
+            if (oldPosition >= 0) {
+                nextRemove(oldPosition, task);
+            }
+            nextAdd(newPosition, newPosition + 1);
+        } finally {
+            endChange();
+        }
+    }
+
+    private void fireUpdated(int position) {
+        beginChange();
+        try {
+            nextUpdate(position);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Ordre total des tâches dans cet index.
+     */
+    abstract Comparator<Task> comparator();
+
+    protected abstract int insert(Task task);
+
+    protected abstract int remove(Task task);
+
+    /**
+     * Position de la tâche d'après sa clé actuelle, -1 si elle n'est pas dans l'index.
+     */
+    protected abstract int positionOf(Task task);
+
+    protected abstract int removeWithOldKey(Task task, Object oldKey);
+
+    protected abstract void rebuild(List<Task> allTasks);
+}
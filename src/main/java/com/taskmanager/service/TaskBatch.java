@@ -0,0 +1,48 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ensemble de mutations appliquées par {@link TaskService#batch} en un seul
+ * événement de liste et une seule écriture.
+ */
+public class TaskBatch {
+
+    private final List<Task> added = new ArrayList<>();
+    private final List<Task> updated = new ArrayList<>();
+    private final List<Task> deleted = new ArrayList<>();
+
+    public TaskBatch add(Task task) {
+        if (task != null) added.add(task);
+        return this;
+    }
+
+    public TaskBatch update(Task task) {
+        if (task != null) updated.add(task);
+        return this;
+    }
+
+    public TaskBatch delete(Task task) {
+        if (task != null) deleted.add(task);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+    }
+
+    List<Task> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    List<Task> getUpdated() {
+        return Collections.unmodifiableList(updated);
+    }
+
+    List<Task> getDeleted() {
+        return Collections.unmodifiableList(deleted);
+    }
+}
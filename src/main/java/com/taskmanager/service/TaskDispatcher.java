@@ -0,0 +1,42 @@
+package com.taskmanager.service;
+
+import javafx.application.Platform;
+
+/**
+ * Thread propriétaire de la liste observable des tâches. Les mutations demandées depuis un autre thread
+ * lui sont transmises par lots ; {@link #direct()} les applique sur place, pour un usage sans interface.
+ */
+public interface TaskDispatcher {
+
+    boolean isDispatchThread();
+
+    void dispatch(Runnable action);
+
+    static TaskDispatcher javaFx() {
+        return new TaskDispatcher() {
+            @Override
+            public boolean isDispatchThread() {
+                return Platform.isFxApplicationThread();
+            }
+
+            @Override
+            public void dispatch(Runnable action) {
+                Platform.runLater(action);
+            }
+        };
+    }
+
+    static TaskDispatcher direct() {
+        return new TaskDispatcher() {
+            @Override
+            public boolean isDispatchThread() {
+                return true;
+            }
+
+            @Override
+            public void dispatch(Runnable action) {
+                action.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,228 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskValidation;
+import com.taskmanager.persistence.TaskJsonChunker;
+import com.taskmanager.persistence.TaskJsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Import d'un fichier JSON en pipeline :
+ * <ol>
+ *   <li>découpage du fichier en morceaux ({@link TaskJsonChunker}) sur le thread de l'import ;</li>
+ *   <li>décodage, validation ({@link TaskValidation}) et élimination des tâches déjà présentes,
+ *       en parallèle sur le pool fork-join ;</li>
+ *   <li>dans l'ordre du fichier : élimination des doublons internes au fichier, réservation d'un bloc
+ *       d'identifiants, puis publication du morceau en un seul lot.</li>
+ * </ol>
+ * Les identifiants sont réservés après le dédoublonnage pour ne pas en gaspiller.
+ * Le résultat n'est disponible qu'une fois le dernier lot appliqué par le service, pas seulement transmis.
+ * Une annulation arrête la lecture ; les lots déjà publiés restent dans la liste.
+ */
+public final class TaskImport {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final Path file;
+    private final Task[] existingTasks;
+    private final TaskJsonReader jsonReader;
+    private final IdAllocator idAllocator;
+    private final ForkJoinPool pool;
+    private final Consumer<Runnable> afterPublished;
+    private final int chunkSize;
+    private final CompletableFuture<Result> result;
+    private volatile boolean cancelled;
+
+    /**
+     * {@code afterPublished} exécute une action après tous les lots déjà transmis au publieur.
+     */
+    TaskImport(Path file, Task[] existingTasks, TaskJsonReader jsonReader, IdAllocator idAllocator, ForkJoinPool pool,
+               Consumer<Runnable> afterPublished) {
+        this.file = file;
+        this.existingTasks = existingTasks;
+        this.jsonReader = jsonReader;
+        this.idAllocator = idAllocator;
+        this.pool = pool;
+        this.afterPublished = afterPublished;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.result = new CompletableFuture<>();
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public CompletableFuture<Result> result() {
+        return result;
+    }
+
+    /**
+     * Lance l'import sur un thread dédié ; {@code publisher} reçoit les lots dans l'ordre du fichier.
+     */
+    void start(Consumer<List<Task>> publisher, DoubleConsumer progress) {
+        Thread thread = new Thread(() -> {
+            try {
+                run(publisher, progress);
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, "task-import");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Exécute l'import sur le thread appelant, qui reçoit aussi les lots à publier.
+     */
+    Result run(Consumer<List<Task>> publisher, DoubleConsumer progress) throws IOException {
+        CompletableFuture<Set<DuplicateKey>> existingKeys = CompletableFuture.supplyAsync(this::existingKeys, pool);
+        Deque<CompletableFuture<DecodedChunk>> inFlight = new ArrayDeque<>();
+        int maxInFlight = Math.max(2, 2 * pool.getParallelism());
+        Counters counters = new Counters();
+
+        try (TaskJsonChunker chunker = new TaskJsonChunker(file, chunkSize)) {
+            TaskJsonChunker.Chunk chunk;
+            while (!cancelled && (chunk = chunker.next()) != null) {
+                TaskJsonChunker.Chunk submitted = chunk;
+                inFlight.add(CompletableFuture.supplyAsync(() -> decode(submitted, existingKeys), pool));
+
+                while (inFlight.size() >= maxInFlight) {
+                    publish(join(inFlight.poll()), counters, publisher, progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                publish(join(inFlight.poll()), counters, publisher, progress);
+            }
+        } catch (IOException | RuntimeException e) {
+            inFlight.forEach(future -> future.cancel(false));
+            result.completeExceptionally(e);
+            throw e;
+        }
+
+        if (!cancelled) {
+            progress.accept(1.0);
+        }
+        Result outcome = new Result(counters.imported, counters.invalid, counters.duplicates, cancelled);
+        afterPublished.accept(() -> result.complete(outcome));
+        return outcome;
+    }
+
+    private Set<DuplicateKey> existingKeys() {
+        Set<DuplicateKey> keys = ConcurrentHashMap.newKeySet(existingTasks.length);
+        Arrays.stream(existingTasks).parallel().map(DuplicateKey::of).forEach(keys::add);
+        return keys;
+    }
+
+    private DecodedChunk decode(TaskJsonChunker.Chunk chunk, CompletableFuture<Set<DuplicateKey>> existingKeys) {
+        if (cancelled) return new DecodedChunk(List.of(), List.of(), 0, 0, chunk.progress());
+
+        List<Task> decoded;
+        try {
+            decoded = jsonReader.read(chunk.json());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Set<DuplicateKey> known = existingKeys.join();
+        List<Task> tasks = new ArrayList<>(decoded.size());
+        List<DuplicateKey> keys = new ArrayList<>(decoded.size());
+        int invalid = 0;
+        int duplicates = 0;
+        for (Task task : decoded) {
+            if (!TaskValidation.isValid(task)) {
+                invalid++;
+                continue;
+            }
+            DuplicateKey key = DuplicateKey.of(task);
+            if (known.contains(key)) {
+                duplicates++;
+                continue;
+            }
+            tasks.add(task);
+            keys.add(key);
+        }
+        return new DecodedChunk(tasks, keys, invalid, duplicates, chunk.progress());
+    }
+
+    private void publish(DecodedChunk chunk, Counters counters, Consumer<List<Task>> publisher, DoubleConsumer progress) {
+        if (cancelled) return;
+
+        counters.invalid += chunk.invalid();
+        counters.duplicates += chunk.duplicates();
+
+        List<Task> accepted = new ArrayList<>(chunk.tasks().size());
+        for (int i = 0; i < chunk.tasks().size(); i++) {
+            if (counters.seen.add(chunk.keys().get(i))) {
+                accepted.add(chunk.tasks().get(i));
+            } else {
+                counters.duplicates++;
+            }
+        }
+        if (!accepted.isEmpty()) {
+            int firstId = idAllocator.allocateBlock(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).setId(firstId + i);
+            }
+            publisher.accept(accepted);
+            counters.imported += accepted.size();
+        }
+        progress.accept(chunk.progress());
+    }
+
+    private static DecodedChunk join(CompletableFuture<DecodedChunk> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    public record Result(int imported, int invalid, int duplicates, boolean cancelled) {
+    }
+
+    private record DecodedChunk(List<Task> tasks, List<DuplicateKey> keys, int invalid, int duplicates, double progress) {
+    }
+
+    /**
+     * Deux tâches sont des doublons si elles ont le même titre (sans tenir compte de la casse),
+     * la même description et la même échéance.
+     */
+    private record DuplicateKey(String title, String description, int dueDay) {
+
+        static DuplicateKey of(Task task) {
+            String title = task.getTitle() == null ? "" : task.getTitle().trim().toLowerCase(Locale.ROOT);
+            String description = task.getDescription() == null ? "" : task.getDescription().trim();
+            return new DuplicateKey(title, description, task.getDueEpochDay());
+        }
+    }
+
+    private static final class Counters {
+        private final Set<DuplicateKey> seen = new HashSet<>();
+        private int imported;
+        private int invalid;
+        private int duplicates;
+    }
+}
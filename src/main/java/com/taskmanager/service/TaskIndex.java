@@ -0,0 +1,133 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index id -> (tâche, position dans la liste) à adressage ouvert, sans boxing des clés.
+ */
+final class TaskIndex {
+
+    private static final int FREE = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] keys;
+    private Task[] tasks;
+    private int[] positions;
+    private int size;
+
+    TaskIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    Task get(int id) {
+        int slot = find(id);
+        return slot < 0 ? null : tasks[slot];
+    }
+
+    int positionOf(int id) {
+        int slot = find(id);
+        return slot < 0 ? -1 : positions[slot];
+    }
+
+    void put(Task task, int position) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+
+        int id = task.getId();
+        int slot = slotFor(id);
+        while (keys[slot] != FREE && keys[slot] != id) {
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        if (keys[slot] == FREE) {
+            keys[slot] = id;
+            size++;
+        }
+        tasks[slot] = task;
+        positions[slot] = position;
+    }
+
+    void remove(int id) {
+        int slot = find(id);
+        if (slot < 0) return;
+
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = slotFor(keys[next]);
+            boolean movable = (hole <= next) ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                tasks[hole] = tasks[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        tasks[hole] = null;
+        size--;
+    }
+
+    void reindexFrom(List<Task> taskList, int fromPosition) {
+        for (int i = fromPosition; i < taskList.size(); i++) {
+            int slot = find(taskList.get(i).getId());
+            if (slot >= 0) {
+                positions[slot] = i;
+            }
+        }
+    }
+
+    void rebuild(List<Task> taskList) {
+        clear();
+        for (int i = 0; i < taskList.size(); i++) {
+            put(taskList.get(i), i);
+        }
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private int find(int id) {
+        int slot = slotFor(id);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) return slot;
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        return -1;
+    }
+
+    private int slotFor(int id) {
+        int hash = id * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Task[] oldTasks = tasks;
+        int[] oldPositions = positions;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                put(oldTasks[i], oldPositions[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        tasks = new Task[capacity];
+        positions = new int[capacity];
+        size = 0;
+    }
+}
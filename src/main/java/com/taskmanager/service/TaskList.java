@@ -0,0 +1,127 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import javafx.collections.ModifiableObservableListBase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Liste observable des tâches capable de regrouper plusieurs modifications
+ * en un seul événement de changement. Une tâche modifiée sur place est signalée par un événement
+ * de mise à jour ({@link #taskUpdated}) : la FilteredList ne réévalue que cette ligne.
+ */
+public class TaskList extends ModifiableObservableListBase<Task> {
+
+    private final ArrayList<Task> tasks = new ArrayList<>();
+
+    public void runAsSingleChange(Runnable modifications) {
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    void taskUpdated(int position) {
+        beginChange();
+        try {
+            nextUpdate(position);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, tasks.size());
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Task> newTasks) {
+        beginChange();
+        try {
+            List<Task> removed = new ArrayList<>(tasks);
+            tasks.clear();
+            tasks.addAll(newTasks);
+            if (!removed.isEmpty() || !tasks.isEmpty()) {
+                nextReplace(0, tasks.size(), removed);
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) return;
+
+        beginChange();
+        try {
+            List<Task> range = tasks.subList(fromIndex, toIndex);
+            List<Task> removed = new ArrayList<>(range);
+            range.clear();
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super Task> comparator) {
+        int size = tasks.size();
+        if (size < 2) return;
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> comparator.compare(tasks.get(first), tasks.get(second)));
+
+        int[] permutation = new int[size];
+        Task[] sorted = new Task[size];
+        for (int newIndex = 0; newIndex < size; newIndex++) {
+            permutation[order[newIndex]] = newIndex;
+            sorted[newIndex] = tasks.get(order[newIndex]);
+        }
+
+        beginChange();
+        try {
+            for (int i = 0; i < size; i++) {
+                tasks.set(i, sorted[i]);
+            }
+            nextPermutation(0, size, permutation);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Task element) {
+        tasks.add(index, element);
+    }
+
+    @Override
+    protected Task doSet(int index, Task element) {
+        return tasks.set(index, element);
+    }
+
+    @Override
+    protected Task doRemove(int index) {
+        return tasks.remove(index);
+    }
+}
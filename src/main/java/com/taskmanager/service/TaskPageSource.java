@@ -0,0 +1,16 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Task;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Source paginée pour {@link PagedTaskList} : nombre total de tâches et lecture d'une plage par position.
+ * Les appels peuvent venir d'un thread de préchargement.
+ */
+public interface TaskPageSource {
+
+    int count() throws IOException;
+
+    List<Task> fetch(int offset, int limit) throws IOException;
+}
@@ -0,0 +1,148 @@
+package com.taskmanager.service;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.SortCriterion;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Requête immuable sur les tâches : statut ∧ priorité ∧ intervalle d'échéance ∧ texte,
+ * puis tri et pagination. Chaque méthode {@code with...} renvoie une nouvelle requête,
+ * ce qui permet de combiner les filtres au lieu de les remplacer.
+ */
+public final class TaskQuery {
+
+    private static final TaskQuery ALL = new TaskQuery(null, null, Task.NO_DATE, Task.NO_DATE, null,
+            SortCriterion.TITLE, 0, Integer.MAX_VALUE);
+
+    private final Set<Status> statuses;
+    private final Set<Priority> priorities;
+    private final int dueFrom;
+    private final int dueTo;
+    private final String text;
+    private final SortCriterion sort;
+    private final int offset;
+    private final int limit;
+
+    private TaskQuery(Set<Status> statuses, Set<Priority> priorities, int dueFrom, int dueTo, String text,
+                      SortCriterion sort, int offset, int limit) {
+        this.statuses = statuses;
+        this.priorities = priorities;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.text = text;
+        this.sort = sort;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public static TaskQuery all() {
+        return ALL;
+    }
+
+    public TaskQuery withStatuses(Status... statuses) {
+        Set<Status> selected = statuses.length == 0 ? null : EnumSet.of(statuses[0], statuses);
+        return new TaskQuery(selected, priorities, dueFrom, dueTo, text, sort, offset, limit);
+    }
+
+    public TaskQuery withPriorities(Priority... priorities) {
+        Set<Priority> selected = priorities.length == 0 ? null : EnumSet.of(priorities[0], priorities);
+        return new TaskQuery(statuses, selected, dueFrom, dueTo, text, sort, offset, limit);
+    }
+
+    /**
+     * Limite aux tâches dont l'échéance est comprise entre les deux dates incluses ;
+     * une borne nulle laisse l'intervalle ouvert de ce côté, deux bornes nulles retirent le filtre.
+     */
+    public TaskQuery withDueBetween(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return new TaskQuery(statuses, priorities, Task.NO_DATE, Task.NO_DATE, text, sort, offset, limit);
+        }
+        return new TaskQuery(statuses, priorities, toEpochDay(from, Integer.MIN_VALUE + 1), toEpochDay(to, Integer.MAX_VALUE - 1),
+                text, sort, offset, limit);
+    }
+
+    public TaskQuery withText(String text) {
+        String query = (text == null || text.isBlank()) ? null : text.trim();
+        return new TaskQuery(statuses, priorities, dueFrom, dueTo, query, sort, offset, limit);
+    }
+
+    public TaskQuery sortedBy(SortCriterion sort) {
+        return new TaskQuery(statuses, priorities, dueFrom, dueTo, text, sort == null ? SortCriterion.TITLE : sort, offset, limit);
+    }
+
+    public TaskQuery page(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Pagination invalide: " + offset + ", " + limit);
+        }
+        return new TaskQuery(statuses, priorities, dueFrom, dueTo, text, sort, offset, limit);
+    }
+
+    public Set<Status> getStatuses() {
+        return statuses;
+    }
+
+    public Set<Priority> getPriorities() {
+        return priorities;
+    }
+
+    public boolean hasDueRange() {
+        return dueFrom != Task.NO_DATE;
+    }
+
+    public int getDueFrom() {
+        return dueFrom;
+    }
+
+    public int getDueTo() {
+        return dueTo;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public SortCriterion getSort() {
+        return sort;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Prédicat équivalent à la requête, hors tri et pagination.
+     * Le filtre texte est résolu à l'avance par {@link SearchIndex} ; {@code textMatches} est ignoré sans texte.
+     */
+    public Predicate<Task> toPredicate(BitSet textMatches) {
+        return task -> matchesFields(task) && matchesText(task, textMatches);
+    }
+
+    boolean matchesFields(Task task) {
+        if (statuses != null && !statuses.contains(task.getStatus())) return false;
+        if (priorities != null && !priorities.contains(task.getPriority())) return false;
+        if (hasDueRange()) {
+            int dueDay = task.getDueEpochDay();
+            if (dueDay == Task.NO_DATE || dueDay < dueFrom || dueDay > dueTo) return false;
+        }
+        return true;
+    }
+
+    private boolean matchesText(Task task, BitSet textMatches) {
+        if (text == null || textMatches == null) return true;
+        return task.getId() >= 0 && textMatches.get(task.getId());
+    }
+
+    private static int toEpochDay(LocalDate date, int unbounded) {
+        return date == null ? unbounded : (int) date.toEpochDay();
+    }
+}
@@ -1,179 +1,845 @@
 package com.taskmanager.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskField;
+import com.taskmanager.model.TaskObserver;
+import com.taskmanager.enums.SortCriterion;
 import com.taskmanager.enums.Status;
-import javafx.collections.FXCollections;
+import com.taskmanager.jfr.ImportEvent;
+import com.taskmanager.jfr.LoadEvent;
+import com.taskmanager.jfr.SearchEvent;
+import com.taskmanager.metrics.Histogram;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.persistence.JournalRecord;
+import com.taskmanager.persistence.JsonTaskStore;
+import com.taskmanager.persistence.PersistenceScheduler;
+import com.taskmanager.persistence.TaskRepositories;
+import com.taskmanager.persistence.TaskRepository;
+import com.taskmanager.persistence.TaskJsonReader;
+import com.taskmanager.persistence.TaskJsonWriter;
+import com.taskmanager.util.Today;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
 
 public class TaskService {
 
 
     private static final String SAVE_FILE = "tasks.json";
-    private ObservableList<Task> taskList;
+    public static final String PAGED_PROPERTY = "taskmanager.paged";
+    private static final int MAX_MUTATIONS_PER_PASS = 64;
+    public static final int FIRST_LOAD_CHUNK = 1000;
+
+    private TaskList taskList;
+    private TaskIndex taskIndex;
+    private TaskStatistics statistics;
+    private SearchIndex searchIndex;
+    private Map<SortCriterion, SortedTaskIndex> sortedIndexes;
+    private QueryPlanner queryPlanner;
+    private DueDateIndex dueDateIndex;
+    private List<Consumer<List<Task>>> dayRolloverListeners;
+    private TaskObserver taskObserver;
 
 
     private ObjectMapper jsonMapper;
-    private int currentId;
+    private TaskJsonReader jsonReader;
+    private TaskJsonWriter jsonWriter;
+    private TaskRepository repository;
+    private PersistenceScheduler persistence;
+    private IdAllocator idAllocator;
+    private boolean paged;
+    private PagedTaskList pagedTasks;
+    private Consumer<Runnable> uiDispatcher;
+    private TaskDispatcher dispatcher;
+    private Queue<Runnable> pendingMutations;
+    private AtomicBoolean drainScheduled;
+    private StampedLock lock;
+    private AtomicInteger waitingWriters;
+    private volatile Thread lockOwner;
+    private volatile long version;
+    private volatile TaskSnapshot snapshot;
+    private MetricsRegistry metrics;
+    private ServiceMetrics instruments;
 
     public TaskService() {
-        this.taskList = FXCollections.observableArrayList();
-        this.jsonMapper = new ObjectMapper();
-        this.jsonMapper.registerModule(new JavaTimeModule());
-        this.currentId = 1;
+        this(openConfiguredRepository(new File(SAVE_FILE)), Boolean.getBoolean(PAGED_PROPERTY), TaskDispatcher.javaFx());
+    }
+
+    public TaskService(File saveFile) {
+        this(new JsonTaskStore(saveFile.toPath(), TaskRepositories.newJsonMapper()));
+    }
+
+    public TaskService(TaskRepository repository) {
+        this(repository, false);
+    }
 
-        loadTasksFromFile();
+    /**
+     * En mode paginé, les tâches restent dans le stockage : rien n'est chargé au démarrage,
+     * la table lit des pages via {@link #openPagedView} et les modifications sont écrites directement.
+     * Filtres, tri, recherche et statistiques ne portent alors que sur les tâches chargées en mémoire.
+     */
+    public TaskService(TaskRepository repository, boolean paged) {
+        this(repository, paged, TaskDispatcher.direct());
+    }
+
+    /**
+     * Les mutations peuvent venir de n'importe quel thread : l'identifiant est attribué tout de suite,
+     * la modification est appliquée sur le thread de {@code dispatcher}, par lots, sous le verrou d'écriture.
+     * Les listes observables ({@link #getTasks}, {@link #getSortedTasks}) et les statistiques
+     * ne se lisent que depuis ce thread ; les autres lisent via {@link #snapshot}, {@link #search},
+     * {@link #query}, {@link #findById} ou {@link #countTasksByStatus}.
+     */
+    public TaskService(TaskRepository repository, boolean paged, TaskDispatcher dispatcher) {
+        this(repository, paged, dispatcher, true);
+    }
+
+    private TaskService(TaskRepository repository, boolean paged, TaskDispatcher dispatcher, boolean loadNow) {
+        this.dispatcher = dispatcher;
+        this.metrics = new MetricsRegistry();
+        this.instruments = new ServiceMetrics(metrics);
+        this.pendingMutations = new ConcurrentLinkedQueue<>();
+        this.drainScheduled = new AtomicBoolean(false);
+        this.lock = new StampedLock();
+        this.waitingWriters = new AtomicInteger();
+        this.taskList = new TaskList();
+        this.taskIndex = new TaskIndex();
+        this.statistics = new TaskStatistics(taskList);
+        this.searchIndex = new SearchIndex();
+        this.sortedIndexes = new EnumMap<>(SortCriterion.class);
+        for (SortCriterion criterion : SortCriterion.values()) {
+            sortedIndexes.put(criterion, SortedTaskIndex.forCriterion(criterion));
+        }
+        this.dueDateIndex = new DueDateIndex(Today.epochDay());
+        this.dayRolloverListeners = new ArrayList<>();
+        this.queryPlanner = new QueryPlanner(taskList, taskIndex, searchIndex, sortedIndexes);
+        this.taskObserver = this::onTaskChanged;
+        this.taskList.addListener(this::onTaskListChanged);
+        this.jsonMapper = TaskRepositories.newJsonMapper();
+        this.jsonReader = new TaskJsonReader(jsonMapper);
+        this.jsonWriter = new TaskJsonWriter(jsonMapper);
+        this.repository = repository;
+        this.persistence = new PersistenceScheduler(repository, PersistenceScheduler.DEFAULT_DEBOUNCE, metrics);
+        this.idAllocator = new IdAllocator();
+        this.paged = paged;
+
+        if (paged) {
+            loadCurrentId();
+        } else if (loadNow) {
+            loadTasksFromFile();
+        }
+    }
+
+    /**
+     * Service dont les tâches ne sont pas encore lues : la fenêtre peut s'afficher tout de suite,
+     * {@link #loadAsync} les charge ensuite en arrière-plan.
+     */
+    public static TaskService deferred() {
+        return deferred(openConfiguredRepository(new File(SAVE_FILE)), TaskDispatcher.javaFx());
+    }
+
+    public static TaskService deferred(TaskRepository repository, TaskDispatcher dispatcher) {
+        return new TaskService(repository, Boolean.getBoolean(PAGED_PROPERTY), dispatcher, false);
+    }
+
+    /**
+     * Lit le stockage sur un thread dédié puis publie les tâches par morceaux, chacun en un seul événement de liste.
+     * Le premier ({@link #FIRST_LOAD_CHUNK} tâches) remplit l'écran ; les suivants doublent de taille, si bien que
+     * les index triés, reconstruits à chaque gros morceau, coûtent au total environ deux reconstructions.
+     * Un morceau n'est publié qu'une fois le précédent appliqué : le thread du dispatcher reste libre entre deux.
+     * {@code progress} reçoit la part des tâches publiées, sur le thread du dispatcher.
+     * À n'appeler qu'une fois, sur un service créé par {@link #deferred}.
+     */
+    public CompletableFuture<Integer> loadAsync(DoubleConsumer progress) {
+        CompletableFuture<Integer> loaded = new CompletableFuture<>();
+        if (paged) {
+            loaded.complete(0);
+            return loaded;
+        }
+
+        Thread thread = new Thread(() -> {
+            try {
+                loaded.complete(streamTasksFromStorage(progress));
+            } catch (IOException | RuntimeException e) {
+                instruments.loadErrors.increment();
+                loaded.completeExceptionally(e);
+            }
+        }, "task-load");
+        thread.setDaemon(true);
+        thread.start();
+        return loaded;
     }
 
     public ObservableList<Task> getTasks() {
         return this.taskList;
     }
 
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    public boolean isPaged() {
+        return paged;
+    }
+
+    public PagedTaskList openPagedView(Consumer<Runnable> uiDispatcher) throws IOException {
+        this.uiDispatcher = uiDispatcher;
+        this.pagedTasks = new PagedTaskList(new TaskPageSource() {
+            @Override
+            public int count() throws IOException {
+                return repository.count();
+            }
+
+            @Override
+            public List<Task> fetch(int offset, int limit) throws IOException {
+                return repository.loadRange(offset, limit);
+            }
+        }, uiDispatcher);
+        return pagedTasks;
+    }
+
     public void addTask(Task task) {
         if (task != null) {
             task.setId(generateNextId());
-            this.taskList.add(task);
-            saveTasksToFile();
+            mutate(timed(instruments.add, () -> {
+                if (paged) {
+                    writeThrough(List.of(JournalRecord.put(task.clone())));
+                    return;
+                }
+                this.taskList.add(task);
+                this.taskIndex.put(task, taskList.size() - 1);
+                persistence.submit(JournalRecord.put(task.clone()));
+            }));
         }
     }
 
     public void updateTask(Task updatedTask) {
         if (updatedTask == null) return;
 
-        for (int i = 0; i < taskList.size(); i++) {
+        mutate(timed(instruments.update, () -> applyUpdate(updatedTask)));
+    }
 
+    private void applyUpdate(Task updatedTask) {
+        if (paged) {
+            if (pagedTasks != null) {
+                pagedTasks.replace(updatedTask);
+            }
+            persistence.submit(JournalRecord.put(updatedTask.clone()));
+            return;
+        }
 
-            Task existing = taskList.get(i);
-            if (existing.getId() == updatedTask.getId()) {
-                taskList.set(i, updatedTask);
-                saveTasksToFile();
-                break;
+        int position = taskIndex.positionOf(updatedTask.getId());
+        if (position >= 0) {
+            Task task = updateInPlace(position, updatedTask);
+            persistence.submit(JournalRecord.put(task.clone()));
+        }
+    }
 
-            }
+    /**
+     * La tâche de la liste reçoit les champs de {@code updatedTask} au lieu d'être remplacée :
+     * chaque champ modifié devient un événement de mise à jour, la ligne et la sélection restent en place.
+     */
+    private Task updateInPlace(int position, Task updatedTask) {
+        Task task = taskList.get(position);
+        if (task != updatedTask) {
+            taskList.runAsSingleChange(() -> task.updateFrom(updatedTask));
         }
+        return task;
     }
 
     public void deleteTask(Task taskToDelete) {
-        if (taskToDelete != null) {
-            taskList.remove(taskToDelete);
+        if (taskToDelete == null) return;
+
+        mutate(timed(instruments.delete, () -> applyDelete(taskToDelete)));
+    }
+
+    private void applyDelete(Task taskToDelete) {
+        if (paged) {
+            writeThrough(List.of(JournalRecord.delete(taskToDelete.getId())));
+            return;
+        }
+
+        int position = taskIndex.positionOf(taskToDelete.getId());
+        if (position >= 0) {
+            taskList.remove(position);
+            taskIndex.remove(taskToDelete.getId());
+            taskIndex.reindexFrom(taskList, position);
+            persistence.submit(JournalRecord.delete(taskToDelete.getId()));
+        }
+    }
 
+    public void batch(Consumer<TaskBatch> mutations) {
+        TaskBatch batch = new TaskBatch();
+        mutations.accept(batch);
+        if (batch.isEmpty()) return;
 
-            saveTasksToFile();
+        for (Task task : batch.getAdded()) {
+            task.setId(generateNextId());
         }
+        mutate(timed(instruments.batch, () -> applyBatch(batch)));
     }
 
-    public void sortTasks(String sortCriteria) {
-        if (sortCriteria == null) return;
+    private void applyBatch(TaskBatch batch) {
+        if (paged) {
+            writeThrough(pagedBatchRecords(batch));
+            return;
+        }
+
+        List<JournalRecord> records = new ArrayList<>();
+        taskList.runAsSingleChange(() -> {
+            for (Task task : batch.getUpdated()) {
+                int position = taskIndex.positionOf(task.getId());
+                if (position >= 0) {
+                    records.add(JournalRecord.put(updateInPlace(position, task).clone()));
+                }
+            }
 
-        switch (sortCriteria.toLowerCase()) {
-            case "priority":
+            int[] deletedPositions = batch.getDeleted().stream()
+                    .mapToInt(task -> taskIndex.positionOf(task.getId()))
+                    .filter(position -> position >= 0)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            for (int i = deletedPositions.length - 1; i >= 0; i--) {
+                Task removed = taskList.remove(deletedPositions[i]);
+                taskIndex.remove(removed.getId());
+                records.add(JournalRecord.delete(removed.getId()));
+            }
+            if (deletedPositions.length > 0) {
+                taskIndex.reindexFrom(taskList, deletedPositions[0]);
+            }
 
-                Collections.sort(taskList, (t1, t2) -> t2.getPriority().compareTo(t1.getPriority()));
-                break;
-            case "duedate":
+            append(batch.getAdded(), records);
+        });
+        persistence.submitAll(records);
+    }
 
+    /**
+     * Ajoute en un seul lot des tâches dont l'identifiant est déjà attribué (import).
+     */
+    void publishImported(List<Task> tasks) {
+        mutate(timed(instruments.importBatch, () -> applyImported(tasks)));
+    }
 
-                Collections.sort(taskList, (t1, t2) -> {
-                    LocalDate date1 = t1.getDueDate();
-                    LocalDate date2 = t2.getDueDate();
-                    if (date1 == null && date2 == null) return 0;
-                    if (date1 == null) return 1;
-                    if (date2 == null) return -1;
-                    return date1.compareTo(date2);
-                });
-                break;
-            case "status":
-                Collections.sort(taskList, Comparator.comparing(Task::getStatus));
-                break;
-            case "created":
-                Collections.sort(taskList, Comparator.comparing(Task::getCreatedAt));
-                break;
-            case "title":
-            default:
-                Collections.sort(taskList, (t1, t2) ->
-                        t1.getTitle().compareToIgnoreCase(t2.getTitle()));
-                break;
+    private void applyImported(List<Task> tasks) {
+        if (paged) {
+            List<JournalRecord> records = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                records.add(JournalRecord.put(task.clone()));
+            }
+            writeThrough(records);
+            return;
         }
+
+        List<JournalRecord> records = new ArrayList<>(tasks.size());
+        taskList.runAsSingleChange(() -> append(tasks, records));
+        persistence.submitAll(records);
     }
 
-    public long countTasksByStatus(Status status) {
+    private void append(List<Task> tasks, List<JournalRecord> records) {
+        appendToList(tasks);
+        for (Task task : tasks) {
+            records.add(JournalRecord.put(task.clone()));
+        }
+    }
+
+    private void appendToList(List<Task> tasks) {
+        int firstPosition = taskList.size();
+        taskList.addAll(tasks);
+        for (int i = 0; i < tasks.size(); i++) {
+            taskIndex.put(tasks.get(i), firstPosition + i);
+        }
+    }
+
+    public BitSet search(String query) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        BitSet matches = time(instruments.search, () -> read(() -> searchIndex.search(query)));
+        if (event.shouldCommit()) {
+            event.query = query;
+            event.hits = matches == null ? -1 : matches.cardinality();
+            event.commit();
+        }
+        return matches;
+    }
+
+    public List<Task> query(TaskQuery query) {
+        return time(instruments.query, () -> read(() -> queryPlanner.execute(query)));
+    }
 
-           long count = 0;
-        for (Task task : taskList) {
-            if (task.getStatus() == status) {
-                count++;
+    public Optional<Task> findById(int id) {
+        return Optional.ofNullable(time(instruments.findById, () -> read(() -> taskIndex.get(id))));
+    }
+
+    /**
+     * Copie figée de la liste, lisible depuis n'importe quel thread et réutilisée tant qu'aucune
+     * mutation n'a eu lieu. Les tâches ne sont pas copiées : hors du thread de l'interface,
+     * les modifier passe par {@link #updateTask} avec un clone.
+     */
+    public List<Task> snapshot() {
+        TaskSnapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current.tasks();
+        }
+
+        current = read(() -> new TaskSnapshot(version, List.copyOf(taskList)));
+        snapshot = current;
+        return current.tasks();
+    }
+
+    public ObservableList<Task> sortTasks(String sortCriteria) {
+        return getSortedTasks(SortCriterion.fromKey(sortCriteria));
+    }
+
+    public ObservableList<Task> getSortedTasks(SortCriterion criterion) {
+        return time(instruments.sort, () -> sortedIndexes.get(criterion));
+    }
+
+    public List<Task> getOverdueTasks() {
+        checkDayRollover();
+        return time(instruments.dueDates, () -> read(dueDateIndex::overdueTasks));
+    }
+
+    public List<Task> getTasksDueToday() {
+        checkDayRollover();
+        return time(instruments.dueDates, () -> read(dueDateIndex::dueTodayTasks));
+    }
+
+    public void addDayRolloverListener(Consumer<List<Task>> listener) {
+        dayRolloverListeners.add(listener);
+    }
+
+    /**
+     * Reclasse les tâches si le jour a changé depuis le dernier appel et prévient les écouteurs
+     * avec les seules tâches dont le statut « en retard » / « aujourd'hui » a changé.
+     */
+    public void checkDayRollover() {
+        int today = Today.epochDay();
+        if (today == dueDateIndex.getToday()) return;
+
+        mutate(() -> {
+            if (today == dueDateIndex.getToday()) return;
+
+            List<Task> affected = dueDateIndex.rollOver(today);
+            publishDateCounters();
+            for (Consumer<List<Task>> listener : dayRolloverListeners) {
+                listener.accept(affected);
             }
+        });
+    }
+
+    public long countTasksByStatus(Status status) {
+        long start = System.nanoTime();
+        long stamp = lock.tryOptimisticRead();
+        int count = statistics.getStatusCount(status);
+        if (!lock.validate(stamp)) {
+            count = read(() -> statistics.getStatusCount(status));
         }
+        instruments.count.recordSince(start);
         return count;
     }
 
+    public TaskStatistics getStatistics() {
+        return statistics;
+    }
+
+
+    private void onTaskListChanged(ListChangeListener.Change<? extends Task> change) {
+        checkDayRollover();
+        instruments.listEvents.increment();
+        boolean cleared = taskList.isEmpty();
+        if (cleared) {
+            searchIndex.clear();
+            dueDateIndex.clear();
+        }
+
+        List<Task> removed = new ArrayList<>();
+        List<Task> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // Un tri de la liste déplace les tâches sans passer par le service : l'index des positions suit ici.
+                int from = change.getFrom();
+                write(() -> taskIndex.reindexFrom(taskList, from));
+                continue;
+            }
+            if (change.wasUpdated()) continue;
+
+            for (Task task : change.getRemoved()) {
+                task.setObserver(null);
+                if (!cleared) {
+                    searchIndex.remove(task);
+                    dueDateIndex.remove(task);
+                }
+                removed.add(task);
+            }
+            for (Task task : change.getAddedSubList()) {
+                task.setObserver(taskObserver);
+                searchIndex.add(task);
+                dueDateIndex.add(task);
+                added.add(task);
+            }
+        }
+        publishDateCounters();
+        instruments.listAdded.add(added.size());
+        instruments.listRemoved.add(removed.size());
+
+        for (SortedTaskIndex sortedIndex : sortedIndexes.values()) {
+            sortedIndex.apply(removed, added, taskList);
+        }
+    }
+
+    private void onTaskChanged(Task task, TaskField field, Object oldValue, Object newValue) {
+        instruments.taskChanges.increment();
+        write(() -> updateIndexes(task, field, oldValue, newValue));
+    }
 
-    private void saveTasksToFile() {
+    private void updateIndexes(Task task, TaskField field, Object oldValue, Object newValue) {
+        checkDayRollover();
+        statistics.taskChanged(task, field, oldValue, newValue);
+        if (field == TaskField.STATUS) {
+            dueDateIndex.move(task, task.getDueEpochDay(), (Status) oldValue);
+            publishDateCounters();
+        } else if (field == TaskField.DUE_DATE) {
+            int oldDueDay = oldValue == null ? Task.NO_DATE : (int) ((LocalDate) oldValue).toEpochDay();
+            dueDateIndex.move(task, oldDueDay, task.getStatus());
+            publishDateCounters();
+        }
+        for (SortedTaskIndex sortedIndex : sortedIndexes.values()) {
+            sortedIndex.taskChanged(task, field, oldValue);
+        }
+
+        if (field == TaskField.TITLE) {
+            searchIndex.update(task.getId(), (String) oldValue, task.getDescription(),
+                    task.getTitle(), task.getDescription());
+        } else if (field == TaskField.DESCRIPTION) {
+            searchIndex.update(task.getId(), task.getTitle(), (String) oldValue,
+                    task.getTitle(), task.getDescription());
+        }
+
+        int position = taskIndex.positionOf(task.getId());
+        if (position >= 0 && taskList.get(position) == task) {
+            taskList.taskUpdated(position);
+        }
+    }
+
+    /**
+     * Applique la mutation tout de suite sur le thread du dispatcher ; depuis un autre thread,
+     * la met en file et programme un seul passage pour toutes les mutations en attente.
+     * Chaque mutation garde son propre événement de liste : fusionner des opérations quelconques
+     * dans un même changement n'est pas fiable avec ListChangeBuilder.
+     */
+    private void mutate(Runnable mutation) {
+        if (dispatcher.isDispatchThread()) {
+            write(mutation);
+            return;
+        }
+
+        pendingMutations.add(mutation);
+        if (drainScheduled.compareAndSet(false, true)) {
+            dispatcher.dispatch(this::applyPendingMutations);
+        }
+    }
+
+    private void applyPendingMutations() {
+        drainScheduled.set(false);
+        write(() -> {
+            for (int i = 0; i < MAX_MUTATIONS_PER_PASS; i++) {
+                Runnable mutation = pendingMutations.poll();
+                if (mutation == null) return;
+                mutation.run();
+            }
+        });
+
+        if (!pendingMutations.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+            dispatcher.dispatch(this::applyPendingMutations);
+        }
+    }
+
+    /**
+     * Verrou d'écriture, réentrant pour le thread qui le détient déjà : les écouteurs de la liste
+     * s'exécutent pendant la mutation et peuvent relire le service.
+     */
+    private void write(Runnable mutation) {
+        if (lockOwner == Thread.currentThread()) {
+            mutation.run();
+            return;
+        }
+
+        long waitStart = System.nanoTime();
+        waitingWriters.incrementAndGet();
+        long stamp = lock.writeLock();
+        waitingWriters.decrementAndGet();
+        instruments.writeLockWait.recordSince(waitStart);
+        lockOwner = Thread.currentThread();
+        // La version change avant la mutation : un snapshot() demandé pendant le lot, par exemple après un
+        // flush() terminé au milieu, attend la fin de l'écriture au lieu de resservir la copie précédente.
+        version++;
+        try {
+            mutation.run();
+        } finally {
+            lockOwner = null;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Verrou de lecture. Les lecteurs cèdent la place dès qu'un écrivain attend : StampedLock
+     * n'a pas de politique d'équité et des lectures continues bloqueraient le thread de l'interface.
+     */
+    private <T> T read(Supplier<T> reader) {
+        if (lockOwner == Thread.currentThread()) {
+            return reader.get();
+        }
+
+        while (waitingWriters.get() > 0) {
+            Thread.yield();
+        }
+        long stamp = lock.readLock();
         try {
-            File file = new File(SAVE_FILE);
-               jsonMapper.writerWithDefaultPrettyPrinter().writeValue(file, taskList);
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static TaskRepository openConfiguredRepository(File saveFile) {
+        try {
+            return TaskRepositories.fromConfiguration(saveFile.toPath());
         } catch (IOException e) {
-            System.err.println("Erreur sauvegarde: " + e.getMessage());
+            System.err.println("Erreur ouverture du stockage: " + e.getMessage());
+            return new JsonTaskStore(saveFile.toPath(), TaskRepositories.newJsonMapper());
         }
     }
 
+    private void publishDateCounters() {
+        statistics.updateDateCounters(dueDateIndex.overdueCount(), dueDateIndex.dueTodayCount());
+    }
 
     private void loadTasksFromFile() {
-        File file = new File(SAVE_FILE);
-        if (!file.exists()) {
-            return;
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            List<Task> loadedTasks = repository.load();
+            taskList.setAll(loadedTasks);
+            taskIndex.rebuild(taskList);
+
+            updateCurrentId();
+            instruments.load.recordSince(start);
+            if (event.shouldCommit()) {
+                event.storage = repository.getClass().getSimpleName();
+                event.tasks = loadedTasks.size();
+                event.commit();
+            }
+        } catch (IOException e) {
+            instruments.loadErrors.increment();
+            System.err.println("Erreur chargement: " + e.getMessage());
+        }
+    }
+
+    private int streamTasksFromStorage(DoubleConsumer progress) throws IOException {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<Task> loadedTasks = repository.load();
+        idAllocator.reset(maxId(loadedTasks) + 1);
+
+        int chunkSize = FIRST_LOAD_CHUNK;
+        for (int from = 0; from < loadedTasks.size(); from += chunkSize, chunkSize *= 2) {
+            int to = from + Math.min(chunkSize, loadedTasks.size() - from);
+            List<Task> chunk = loadedTasks.subList(from, to);
+            double published = (double) to / loadedTasks.size();
+
+            CompletableFuture<Void> applied = new CompletableFuture<>();
+            mutate(() -> {
+                try {
+                    appendToList(chunk);
+                    progress.accept(published);
+                } finally {
+                    applied.complete(null);
+                }
+            });
+            applied.join();
         }
 
-        try {
-            List<Task> loadedTasks = jsonMapper.readValue(file, new TypeReference<List<Task>>() {});
-               taskList.clear();
-            taskList.addAll(loadedTasks);
+        instruments.load.recordSince(start);
+        if (event.shouldCommit()) {
+            event.storage = repository.getClass().getSimpleName();
+            event.tasks = loadedTasks.size();
+            event.commit();
+        }
+        return loadedTasks.size();
+    }
 
-               updateCurrentId();
+    private void loadCurrentId() {
+        try {
+            idAllocator.reset(repository.maxId() + 1);
         } catch (IOException e) {
             System.err.println("Erreur chargement: " + e.getMessage());
         }
     }
 
+    private List<JournalRecord> pagedBatchRecords(TaskBatch batch) {
+        List<JournalRecord> records = new ArrayList<>();
+        for (Task task : batch.getUpdated()) {
+            records.add(JournalRecord.put(task.clone()));
+        }
+        for (Task task : batch.getDeleted()) {
+            records.add(JournalRecord.delete(task.getId()));
+        }
+        for (Task task : batch.getAdded()) {
+            records.add(JournalRecord.put(task.clone()));
+        }
+        return records;
+    }
+
+    private void writeThrough(List<JournalRecord> records) {
+        persistence.submitAll(records);
+        if (pagedTasks != null) {
+            persistence.flush().thenRun(() -> uiDispatcher.accept(pagedTasks::refresh));
+        }
+    }
+
     private void updateCurrentId() {
+        idAllocator.reset(maxId(taskList) + 1);
+    }
+
+    private static int maxId(List<Task> tasks) {
         int maxId = 0;
-        for (Task task : taskList) {
+        for (Task task : tasks) {
             if (task.getId() > maxId) {
                 maxId = task.getId();
             }
         }
-        currentId = maxId + 1;
+        return maxId;
     }
 
     private int generateNextId() {
-        return currentId++;
+        return idAllocator.next();
     }
 
     public void clearAllTasks() {
-        taskList.clear();
-        saveTasksToFile();
+        mutate(timed(instruments.clear, () -> {
+            if (paged) {
+                writeThrough(List.of(JournalRecord.clear()));
+                return;
+            }
+            taskList.clear();
+            taskIndex.clear();
+            persistence.submit(JournalRecord.clear());
+        }));
     }
 
-    public void importTasks(File file) throws IOException {
-        List<Task> importedTasks = jsonMapper.readValue(file, new TypeReference<List<Task>>() {});
+    public TaskImport.Result importTasks(File file) throws IOException {
+        return importTasks(file, progress -> {});
+    }
 
-        for (Task task : importedTasks) {
+    public TaskImport.Result importTasks(File file, DoubleConsumer progress) throws IOException {
+        return newImport(file).run(this::publishImported, progress);
+    }
 
-               task.setId(generateNextId());
-            taskList.add(task);
-        }
-        saveTasksToFile();
+    /**
+     * Importe en arrière-plan ; les lots sont publiés via le dispatcher, la progression
+     * est signalée depuis le thread de l'import.
+     */
+    public TaskImport importTasksAsync(File file, DoubleConsumer progress) {
+        TaskImport taskImport = newImport(file);
+        taskImport.start(this::publishImported, progress);
+        return taskImport;
+    }
+
+    private TaskImport newImport(File file) {
+        // En mode paginé, seuls les doublons internes au fichier sont écartés.
+        ImportEvent event = new ImportEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Task[] existingTasks = paged ? new Task[0] : snapshot().toArray(new Task[0]);
+        TaskImport taskImport = new TaskImport(file.toPath(), existingTasks, jsonReader, idAllocator,
+                ForkJoinPool.commonPool(), this::mutate);
+        taskImport.result().thenAccept(result -> {
+            instruments.importFile.recordSince(start);
+            instruments.importedTasks.add(result.imported());
+            if (event.shouldCommit()) {
+                event.file = file.getPath();
+                event.fileSize = file.length();
+                event.imported = result.imported();
+                event.invalid = result.invalid();
+                event.duplicates = result.duplicates();
+                event.cancelled = result.cancelled();
+                event.commit();
+            }
+        });
+        return taskImport;
     }
 
     public void exportTasks(File file) throws IOException {
+        exportTasks(file, progress -> {});
+    }
+
+    public void exportTasks(File file, DoubleConsumer progress) throws IOException {
+        long start = System.nanoTime();
+        if (paged) {
+            persistence.flush().join();
+            jsonWriter.write(file.toPath(), repository.readAll(), progress);
+        } else {
+            jsonWriter.write(file.toPath(), snapshot(), progress);
+        }
+        instruments.export.recordSince(start);
+    }
+
+    /**
+     * Termine quand les mutations déjà demandées, depuis n'importe quel thread, sont appliquées et écrites.
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> applied = new CompletableFuture<>();
+        mutate(() -> applied.complete(null));
+        return applied.thenCompose(ignored -> persistence.flush());
+    }
 
+    public void close() {
+        write(() -> {
+            Runnable mutation;
+            while ((mutation = pendingMutations.poll()) != null) {
+                mutation.run();
+            }
+        });
+        if (pagedTasks != null) {
+            pagedTasks.close();
+        }
+        try {
+            persistence.close();
+        } catch (IOException e) {
+            System.err.println("Erreur fermeture: " + e.getMessage());
+        }
+    }
+
+    private static Runnable timed(Histogram timer, Runnable action) {
+        return () -> {
+            long start = System.nanoTime();
+            action.run();
+            timer.recordSince(start);
+        };
+    }
+
+    private static <T> T time(Histogram timer, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        timer.recordSince(start);
+        return result;
+    }
 
-        jsonMapper.writerWithDefaultPrettyPrinter().writeValue(file, taskList);
+    private record TaskSnapshot(long version, List<Task> tasks) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.taskmanager.service;
+
+import com.taskmanager.enums.Priority;
+import com.taskmanager.enums.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskField;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Compteurs de tâches tenus à jour à partir des changements de la liste
+ * et des changements de statut / priorité signalés par chaque tâche.
+ * Les compteurs d'échéance sont recopiés depuis le {@link DueDateIndex} par le service.
+ */
+public class TaskStatistics {
+
+    private final ObservableList<Task> taskList;
+    private final ReadOnlyIntegerWrapper total;
+    private final Map<Status, ReadOnlyIntegerWrapper> statusCounts;
+    private final Map<Priority, ReadOnlyIntegerWrapper> priorityCounts;
+    private final ReadOnlyIntegerWrapper overdueCount;
+    private final ReadOnlyIntegerWrapper dueTodayCount;
+
+    public TaskStatistics(ObservableList<Task> taskList) {
+        this.taskList = taskList;
+        this.total = new ReadOnlyIntegerWrapper(this, "total");
+        this.statusCounts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            statusCounts.put(status, new ReadOnlyIntegerWrapper(this, status.name()));
+        }
+        this.priorityCounts = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            priorityCounts.put(priority, new ReadOnlyIntegerWrapper(this, priority.name()));
+        }
+        this.overdueCount = new ReadOnlyIntegerWrapper(this, "overdue");
+        this.dueTodayCount = new ReadOnlyIntegerWrapper(this, "dueToday");
+
+        for (Task task : taskList) {
+            track(task, 1);
+        }
+        taskList.addListener(this::onListChanged);
+    }
+
+    public ReadOnlyIntegerProperty totalProperty() {
+        return total.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty statusCountProperty(Status status) {
+        return statusCounts.get(status).getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty priorityCountProperty(Priority priority) {
+        return priorityCounts.get(priority).getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty overdueCountProperty() {
+        return overdueCount.getReadOnlyProperty();
+    }
+
+    public ReadOnlyIntegerProperty dueTodayCountProperty() {
+        return dueTodayCount.getReadOnlyProperty();
+    }
+
+    public int getStatusCount(Status status) {
+        return statusCounts.get(status).get();
+    }
+
+    void updateDateCounters(int overdue, int dueToday) {
+        overdueCount.set(overdue);
+        dueTodayCount.set(dueToday);
+    }
+
+    private void onListChanged(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) continue;
+
+            for (Task task : change.getRemoved()) {
+                track(task, -1);
+            }
+            for (Task task : change.getAddedSubList()) {
+                track(task, 1);
+            }
+        }
+    }
+
+    void taskChanged(Task task, TaskField field, Object oldValue, Object newValue) {
+        switch (field) {
+            case STATUS:
+                increment(statusCounts.get((Status) oldValue), -1);
+                increment(statusCounts.get((Status) newValue), 1);
+                break;
+            case PRIORITY:
+                increment(priorityCounts.get((Priority) oldValue), -1);
+                increment(priorityCounts.get((Priority) newValue), 1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void track(Task task, int delta) {
+        increment(total, delta);
+        increment(statusCounts.get(task.getStatus()), delta);
+        increment(priorityCounts.get(task.getPriority()), delta);
+    }
+
+    private static void increment(ReadOnlyIntegerWrapper counter, int delta) {
+        if (counter != null) {
+            counter.set(counter.get() + delta);
+        }
+    }
+}
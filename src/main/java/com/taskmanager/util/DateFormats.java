@@ -0,0 +1,12 @@
+package com.taskmanager.util;
+
+import java.time.format.DateTimeFormatter;
+
+public final class DateFormats {
+
+    public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private DateFormats() {
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.util;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Jour courant mis en cache : la date n'est recalculée qu'une fois minuit passé,
+ * ce qui évite un {@code LocalDate.now()} par tâche et par rendu.
+ */
+public final class Today {
+
+    private static volatile int epochDay;
+    private static volatile long nextMidnightMillis = Long.MIN_VALUE;
+
+    private Today() {
+    }
+
+    public static int epochDay() {
+        if (System.currentTimeMillis() >= nextMidnightMillis) {
+            refresh();
+        }
+        return epochDay;
+    }
+
+    public static LocalDate date() {
+        return LocalDate.ofEpochDay(epochDay());
+    }
+
+    public static Duration untilMidnight() {
+        epochDay();
+        return Duration.ofMillis(Math.max(0, nextMidnightMillis - System.currentTimeMillis()));
+    }
+
+    private static synchronized void refresh() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        LocalDateTime midnight = today.plusDays(1).atStartOfDay();
+        epochDay = (int) today.toEpochDay();
+        nextMidnightMillis = midnight.atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -7,17 +7,25 @@ module com.taskmanager {
     requires com.fasterxml.jackson.databind;
 
     requires com.fasterxml.jackson.datatype.jsr310;
+    requires java.sql;
+    requires java.management;
+    requires jdk.jfr;
 
       exports com.taskmanager;
     exports com.taskmanager.controller;
     exports com.taskmanager.model;
 
     exports com.taskmanager.service;
+    exports com.taskmanager.persistence;
+    exports com.taskmanager.metrics;
+    exports com.taskmanager.jfr;
      exports com.taskmanager.enums;
 
     opens com.taskmanager to javafx.fxml;
     opens com.taskmanager.controller to javafx.fxml;
 
     opens com.taskmanager.model to com.fasterxml.jackson.databind;
+    opens com.taskmanager.persistence to com.fasterxml.jackson.databind;
       opens com.taskmanager.enums to com.fasterxml.jackson.databind;
+    opens com.taskmanager.metrics to com.fasterxml.jackson.databind;
 }
\ No newline at end of file